@@ -1,12 +1,15 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 CREATE TABLE users
 (
-    id          UUID PRIMARY KEY,
-    username    VARCHAR(255) NOT NULL UNIQUE,
-    password    VARCHAR(255) NOT NULL,
-    active      BOOLEAN      NOT NULL,
-    authorities TEXT         NOT NULL,
-    created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+    id            UUID PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL UNIQUE,
+    password      VARCHAR(255) NOT NULL,
+    active        BOOLEAN      NOT NULL,
+    authorities   TEXT         NOT NULL,
+    token_version BIGINT       NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE INDEX idx_users_username ON users (username);
@@ -48,16 +51,87 @@ CREATE TABLE videos
     source      VARCHAR(255) NOT NULL,
     upload_date TIMESTAMP,
     created_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+    updated_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    write_txid  BIGINT       NOT NULL DEFAULT pg_current_xact_id()::text::bigint
 );
-CREATE INDEX idx_videos_source ON videos (source);
-CREATE INDEX idx_videos_upload_date ON videos (upload_date);
-CREATE INDEX idx_videos_duration ON videos (duration);
-CREATE INDEX idx_videos_all_filters ON videos (source, upload_date, duration);
+CREATE INDEX idx_videos_source ON videos (source, id);
+CREATE INDEX idx_videos_upload_date ON videos (upload_date, id);
+CREATE INDEX idx_videos_duration ON videos (duration, id);
+CREATE INDEX idx_videos_all_filters ON videos (lower(source) text_pattern_ops, upload_date, duration);
+CREATE INDEX idx_videos_source_trgm ON videos USING gin (lower(source) gin_trgm_ops);
+CREATE INDEX idx_videos_write_txid ON videos (write_txid);
 
 ALTER TABLE videos
     ADD CONSTRAINT uk_videos_url UNIQUE (url);
 
+CREATE UNLOGGED TABLE videos_staging
+(
+    ordinal     BIGINT NOT NULL,
+    title       VARCHAR(255),
+    url         VARCHAR(255),
+    duration    INTEGER,
+    source      VARCHAR(255),
+    upload_date TIMESTAMP
+);
+
+CREATE TABLE video_feed_state
+(
+    feed          VARCHAR(255) PRIMARY KEY,
+    etag          VARCHAR(255),
+    last_modified VARCHAR(255),
+    fingerprint   VARCHAR(64),
+    cursor        VARCHAR(255),
+    fencing_token BIGINT       NOT NULL DEFAULT 0,
+    imported_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE video_import_jobs
+(
+    trace_id          UUID PRIMARY KEY,
+    initiator_user_id UUID,
+    state             VARCHAR(32)      NOT NULL,
+    fetched_rows      BIGINT           NOT NULL DEFAULT 0,
+    inserted          BIGINT           NOT NULL DEFAULT 0,
+    updated           BIGINT           NOT NULL DEFAULT 0,
+    unchanged         BIGINT           NOT NULL DEFAULT 0,
+    fetch_millis      BIGINT           NOT NULL DEFAULT 0,
+    map_millis        BIGINT           NOT NULL DEFAULT 0,
+    upsert_millis     BIGINT           NOT NULL DEFAULT 0,
+    duration_millis   BIGINT           NOT NULL DEFAULT 0,
+    rows_per_second   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    error             TEXT,
+    created_at        TIMESTAMP        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at        TIMESTAMP,
+    finished_at       TIMESTAMP
+);
+
+CREATE TABLE video_import_chunk_progress
+(
+    trace_id         UUID         NOT NULL,
+    feed             VARCHAR(255) NOT NULL,
+    fencing_token    BIGINT,
+    mode             VARCHAR(16),
+    etag             VARCHAR(255),
+    committed_rows   BIGINT       NOT NULL DEFAULT 0,
+    total_chunks     INT,
+    completed_chunks INT          NOT NULL DEFAULT 0,
+    failed_chunks    INT          NOT NULL DEFAULT 0,
+    inserted         BIGINT       NOT NULL DEFAULT 0,
+    updated          BIGINT       NOT NULL DEFAULT 0,
+    unchanged        BIGINT       NOT NULL DEFAULT 0,
+    error            TEXT,
+    PRIMARY KEY (trace_id, feed)
+);
+
+CREATE TABLE video_import_chunk_done
+(
+    trace_id      UUID         NOT NULL,
+    feed          VARCHAR(255) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    sequence      INT          NOT NULL,
+    PRIMARY KEY (trace_id, feed, fencing_token, sequence)
+);
+
 CREATE OR REPLACE VIEW video_stats_per_source AS
 SELECT source,
        COUNT(*)                AS total_videos,
@@ -0,0 +1,93 @@
+package lt.svaskevicius.videometa.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lt.svaskevicius.videometa.cache.KryoRedisSerializer;
+import lt.svaskevicius.videometa.config.RedisConfig;
+import lt.svaskevicius.videometa.config.properties.CacheProperties.Codec;
+import lt.svaskevicius.videometa.dal.model.User;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
+import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Encode and decode cost of the Redis cache value codecs for the two hot cached values: the {@code userDetails} entry
+ * read on every authenticated request and the {@code video_statistics} list. Encoded sizes are printed on setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+  private static final int SOURCES = 20;
+
+  @Param({"JDK", "KRYO"})
+  private Codec codec;
+
+  private RedisSerializer<Object> serializer;
+  private CurrentUserDetails userDetails;
+  private List<VideoStatisticsResponseDto> statistics;
+  private byte[] encodedUserDetails;
+  private byte[] encodedStatistics;
+
+  @Setup
+  public void setUp() {
+    serializer = codec == Codec.KRYO ?
+        new KryoRedisSerializer(RedisConfig::registerCacheTypes) :
+        RedisSerializer.java();
+
+    final User user = new User();
+    user.setId(UUID.randomUUID());
+    user.setUsername("analyst");
+    user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoO5tZ1Ty2Ue1qh4q1IoYI6bS6xw1Z6M2W");
+    user.setActive(true);
+    user.setAuthorities("VIDEO_ANALYTICS,VIDEO_IMPORTER");
+    userDetails = new CurrentUserDetails(user);
+
+    statistics = new ArrayList<>(SOURCES);
+    for (int i = 0; i < SOURCES; i++) {
+      statistics.add(new VideoStatisticsResponseDto("source-" + i, 1000L + i, 300.5 + i));
+    }
+
+    encodedUserDetails = serializer.serialize(userDetails);
+    encodedStatistics = serializer.serialize(statistics);
+    System.out.printf("%n%s: userDetails %d bytes, video_statistics (%d sources) %d bytes%n", codec,
+        encodedUserDetails.length, SOURCES, encodedStatistics.length);
+  }
+
+  @Benchmark
+  public byte[] serializeUserDetails() {
+    return serializer.serialize(userDetails);
+  }
+
+  @Benchmark
+  public Object deserializeUserDetails() {
+    return serializer.deserialize(encodedUserDetails);
+  }
+
+  @Benchmark
+  public byte[] serializeStatistics() {
+    return serializer.serialize(statistics);
+  }
+
+  @Benchmark
+  public Object deserializeStatistics() {
+    return serializer.deserialize(encodedStatistics);
+  }
+}
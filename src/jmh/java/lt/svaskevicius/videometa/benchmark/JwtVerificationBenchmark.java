@@ -0,0 +1,117 @@
+package lt.svaskevicius.videometa.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lt.svaskevicius.videometa.config.properties.SecurityProperties;
+import lt.svaskevicius.videometa.security.JwtTokenProvider;
+import lt.svaskevicius.videometa.security.filter.JwtAuthorizationFilter;
+import lt.svaskevicius.videometa.security.model.TokenClaims;
+import lt.svaskevicius.videometa.service.identity.UserTokenVersionService;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Per-request cost of authorizing a bearer token in {@link JwtAuthorizationFilter}, with the token version lookup
+ * stubbed out. {@code legacyDoubleParse} replays the previous verification, which built the key and parser and checked
+ * the signature twice per request; the cache size parameter toggles the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET_KEY = "e6d0e2f583c349aaa24b780183bfde7aa136a556ad0230232b889683ec56e846";
+  private static final String ISSUER = "https://svaskevicius.lt";
+  private static final long TOKEN_VERSION = 1;
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+  };
+
+  @Param({"0", "10000"})
+  private int verifiedTokenCacheSize;
+
+  private JwtTokenProvider jwtTokenProvider;
+  private JwtAuthorizationFilter filter;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(new SecurityProperties(SECRET_KEY, ISSUER, 900_000,
+        verifiedTokenCacheSize));
+    filter = new JwtAuthorizationFilter(jwtTokenProvider, new FixedTokenVersionService());
+
+    final CurrentUserDetails userDetails = new CurrentUserDetails(UUID.randomUUID().toString(), "analyst",
+        List.of("USER", "VIDEO_ANALYTICS"));
+    token = jwtTokenProvider.generateToken(
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()), TOKEN_VERSION)
+        .token();
+  }
+
+  @Benchmark
+  public Optional<TokenClaims> verifyToken() {
+    return jwtTokenProvider.verifyToken(token);
+  }
+
+  @Benchmark
+  public Object authorizeRequest() throws ServletException, IOException {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/videos");
+    request.addHeader("Authorization", "Bearer " + token);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  @Benchmark
+  public Claims legacyDoubleParse() {
+    legacyParse(token);
+    return legacyParse(token);
+  }
+
+  private static Claims legacyParse(final String token) {
+    return Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+
+  private static final class FixedTokenVersionService extends UserTokenVersionService {
+
+    private FixedTokenVersionService() {
+      super(null);
+    }
+
+    @Override
+    public Optional<Long> findActiveTokenVersion(final UUID userId) {
+      return Optional.of(TOKEN_VERSION);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package lt.svaskevicius.videometa.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.dal.repository.VideoUpsertRepository;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+/**
+ * Per-row CPU cost of the import write path without a database: deduplicating source DTOs by url and binding their
+ * record components into the multi-row upsert. Statements are bound against a no-op {@link PreparedStatement}, so
+ * the result excludes JDBC round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(VideoImportBindingBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VideoImportBindingBenchmark {
+
+  static final int ROWS = 5_000;
+  private static final int CHUNK_SIZE = 500;
+
+  private VideoUpsertRepository videoUpsertRepository;
+  private List<List<SourceVideoDto>> chunks;
+
+  @Setup
+  public void setUp() {
+    videoUpsertRepository = new VideoUpsertRepository(new BindingOnlyJdbcTemplate(),
+        new VideoImportProperties(CHUNK_SIZE, CHUNK_SIZE, null, 0));
+    chunks = new ArrayList<>();
+    for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+      final List<SourceVideoDto> chunk = new ArrayList<>(CHUNK_SIZE);
+      for (int i = from; i < from + CHUNK_SIZE; i++) {
+        chunk.add(SourceVideoDto.builder()
+            .id(String.valueOf(i))
+            .title("Benchmark video " + i)
+            .url("https://benchmark.videometa/" + i)
+            .source("Benchmark")
+            .duration(60 + i % 600)
+            .uploadDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+            .build());
+      }
+      chunks.add(chunk);
+    }
+  }
+
+  @Benchmark
+  public void directBinding(final Blackhole blackhole) {
+    for (final List<SourceVideoDto> chunk : chunks) {
+      blackhole.consume(videoUpsertRepository.upsertSourceVideos(chunk));
+    }
+  }
+
+  private static final class BindingOnlyJdbcTemplate extends JdbcTemplate {
+
+    private final PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+        (proxy, method, args) -> null);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T query(final String sql, final PreparedStatementSetter pss, final ResultSetExtractor<T> rse) {
+      try {
+        pss.setValues(statement);
+      } catch (final SQLException e) {
+        throw new IllegalStateException(e);
+      }
+      return (T) new long[]{0, 0};
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package lt.svaskevicius.videometa.benchmark;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.dal.repository.VideoUpsertRepository;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rows/sec of the per-row upsert (one statement and one transaction per video) against the batched multi-row
+ * upsert. Needs the PostgreSQL instance from docker-compose, override with BENCHMARK_JDBC_URL,
+ * BENCHMARK_JDBC_USERNAME and BENCHMARK_JDBC_PASSWORD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(VideoUpsertBenchmark.ROWS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VideoUpsertBenchmark {
+
+  static final int ROWS = 5_000;
+
+  private static final String URL_PREFIX = "https://benchmark.videometa/";
+  private static final String PER_ROW_UPSERT = """
+      INSERT INTO videos (id, title, url, duration, source, upload_date, created_at, updated_at)
+      VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT (url)
+      DO UPDATE SET
+          title = EXCLUDED.title,
+          duration = EXCLUDED.duration,
+          source = EXCLUDED.source,
+          upload_date = EXCLUDED.upload_date,
+          updated_at = CURRENT_TIMESTAMP
+      """;
+
+  @Param({"100", "500", "2000"})
+  private int batchSize;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private VideoUpsertRepository videoUpsertRepository;
+  private List<SourceVideoDto> videos;
+  private int invocation;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new SingleConnectionDataSource(
+        env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/postgres"),
+        env("BENCHMARK_JDBC_USERNAME", "postgres"),
+        env("BENCHMARK_JDBC_PASSWORD", "changeme"),
+        true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    videoUpsertRepository = new VideoUpsertRepository(jdbcTemplate, new VideoImportProperties(ROWS, batchSize, null, 0));
+  }
+
+  @Setup(Level.Invocation)
+  public void prepareVideos() {
+    invocation++;
+    videos = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      videos.add(SourceVideoDto.builder()
+          .title("Benchmark video " + i + " rev " + invocation)
+          .url(URL_PREFIX + i)
+          .source("Benchmark")
+          .duration(60 + i % 600)
+          .uploadDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+          .build());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbcTemplate.update("DELETE FROM videos WHERE url LIKE ?", URL_PREFIX + "%");
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public void perRowUpsert() {
+    for (final SourceVideoDto video : videos) {
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(PER_ROW_UPSERT, ps -> {
+        ps.setString(1, video.title());
+        ps.setString(2, video.url());
+        ps.setInt(3, video.duration());
+        ps.setString(4, video.source());
+        ps.setObject(5, video.uploadDate(), Types.DATE);
+      }));
+    }
+  }
+
+  @Benchmark
+  public VideoUpsertResult batchedUpsert() {
+    return Objects.requireNonNull(transactionTemplate.execute(status ->
+        videoUpsertRepository.upsertSourceVideos(videos)));
+  }
+
+  private static String env(final String name, final String defaultValue) {
+    final String value = System.getenv(name);
+    return value != null ? value : defaultValue;
+  }
+}
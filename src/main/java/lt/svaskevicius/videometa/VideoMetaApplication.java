@@ -3,7 +3,9 @@ package lt.svaskevicius.videometa;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
 @ConfigurationPropertiesScan(basePackages = "lt.svaskevicius.videometa")
 public class VideoMetaApplication {
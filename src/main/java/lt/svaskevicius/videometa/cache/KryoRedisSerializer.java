@@ -0,0 +1,67 @@
+package lt.svaskevicius.videometa.cache;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import java.util.function.Consumer;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+public class KryoRedisSerializer implements RedisSerializer<Object> {
+
+  private static final int POOL_SIZE = 32;
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  private final Pool<Kryo> kryoPool;
+
+  public KryoRedisSerializer(final Consumer<Kryo> registrations) {
+    this.kryoPool = new Pool<>(true, false, POOL_SIZE) {
+      @Override
+      protected Kryo create() {
+        final Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(true);
+        kryo.setReferences(false);
+        kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        registrations.accept(kryo);
+        return kryo;
+      }
+    };
+  }
+
+  @Override
+  public byte[] serialize(final Object value) {
+    if (value == null) {
+      return new byte[0];
+    }
+
+    final Kryo kryo = kryoPool.obtain();
+    try (Output output = new Output(INITIAL_BUFFER_SIZE, -1)) {
+      kryo.writeClassAndObject(output, value);
+      return output.toBytes();
+    } catch (final KryoException | IllegalArgumentException e) {
+      throw new SerializationException("Could not serialize " + value.getClass().getName(), e);
+    } finally {
+      kryoPool.free(kryo);
+    }
+  }
+
+  @Override
+  public Object deserialize(final byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+
+    final Kryo kryo = kryoPool.obtain();
+    try (Input input = new Input(bytes)) {
+      return kryo.readClassAndObject(input);
+    } catch (final KryoException e) {
+      throw new SerializationException("Could not deserialize cache value", e);
+    } finally {
+      kryoPool.free(kryo);
+    }
+  }
+}
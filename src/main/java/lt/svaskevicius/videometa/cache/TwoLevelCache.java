@@ -0,0 +1,82 @@
+package lt.svaskevicius.videometa.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+  private final Cache remote;
+  private final TwoLevelCacheManager cacheManager;
+
+  TwoLevelCache(final String name, final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+      final Cache remote, final TwoLevelCacheManager cacheManager) {
+    super(false);
+    this.name = name;
+    this.local = local;
+    this.remote = remote;
+    this.cacheManager = cacheManager;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return local;
+  }
+
+  @Override
+  protected Object lookup(final Object key) {
+    final String localKey = String.valueOf(key);
+    final Object cached = local.getIfPresent(localKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    final ValueWrapper remoteValue = remote.get(key);
+    if (remoteValue == null || remoteValue.get() == null) {
+      return null;
+    }
+    local.put(localKey, remoteValue.get());
+    return remoteValue.get();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(final Object key, final Callable<T> valueLoader) {
+    return (T) local.get(String.valueOf(key), localKey -> remote.get(key, valueLoader));
+  }
+
+  @Override
+  public void put(final Object key, final Object value) {
+    remote.put(key, value);
+    local.put(String.valueOf(key), toStoreValue(value));
+  }
+
+  @Override
+  public void evict(final Object key) {
+    remote.evict(key);
+    evictLocal(String.valueOf(key));
+    cacheManager.publishEviction(name, String.valueOf(key));
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    clearLocal();
+    cacheManager.publishClear(name);
+  }
+
+  void evictLocal(final String key) {
+    local.invalidate(key);
+  }
+
+  void clearLocal() {
+    local.invalidateAll();
+  }
+}
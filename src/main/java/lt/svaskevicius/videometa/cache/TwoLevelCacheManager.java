@@ -0,0 +1,90 @@
+package lt.svaskevicius.videometa.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.CacheProperties;
+import lt.svaskevicius.videometa.config.properties.CacheProperties.LocalCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+  private static final String SEPARATOR = "\n";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+  private final CacheManager remoteCacheManager;
+  private final StringRedisTemplate redisTemplate;
+  private final CacheProperties cacheProperties;
+
+  public TwoLevelCacheManager(final CacheManager remoteCacheManager, final StringRedisTemplate redisTemplate,
+      final CacheProperties cacheProperties) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.redisTemplate = redisTemplate;
+    this.cacheProperties = cacheProperties;
+  }
+
+  @Override
+  public Cache getCache(final String name) {
+    return caches.computeIfAbsent(name, cacheName -> {
+      final Cache remote = remoteCacheManager.getCache(cacheName);
+      if (remote == null) {
+        return null;
+      }
+      final LocalCache localCache = cacheProperties.localCache(cacheName);
+      return new TwoLevelCache(cacheName, Caffeine.newBuilder()
+          .maximumSize(localCache.maximumSize())
+          .expireAfterWrite(localCache.ttl())
+          .build(), remote, this);
+    });
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteCacheManager.getCacheNames();
+  }
+
+  @Override
+  public void onMessage(final Message message, final byte[] pattern) {
+    final String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+    if (parts.length < 2 || nodeId.equals(parts[0])) {
+      return;
+    }
+
+    final TwoLevelCache cache = caches.get(parts[1]);
+    if (cache == null) {
+      return;
+    }
+    if (parts.length == 2) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(parts[2]);
+    }
+  }
+
+  void publishEviction(final String cacheName, final String key) {
+    publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+  }
+
+  void publishClear(final String cacheName) {
+    publish(nodeId + SEPARATOR + cacheName);
+  }
+
+  private void publish(final String message) {
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    } catch (final RuntimeException e) {
+      log.error("Could not publish cache invalidation on {}", INVALIDATION_CHANNEL, e);
+    }
+  }
+}
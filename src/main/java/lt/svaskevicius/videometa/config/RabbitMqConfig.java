@@ -1,21 +1,78 @@
 package lt.svaskevicius.videometa.config;
 
+import lt.svaskevicius.videometa.config.properties.VideoImportLeaseProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportPartitionProperties;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties.ListenerRetry;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 
 @Configuration
 public class RabbitMqConfig {
 
   public static final String VIDEO_IMPORT_QUEUE = "video.import.queue";
+  public static final String VIDEO_IMPORT_DEAD_LETTER_EXCHANGE = "video.import.dlx";
+  public static final String VIDEO_IMPORT_PARKING_LOT_QUEUE = "video.import.parking-lot";
+  public static final String VIDEO_IMPORT_RETRY_QUEUE = "video.import.retry";
+  public static final String VIDEO_IMPORT_CHUNK_QUEUE = "video.import.chunk.queue";
+  public static final String VIDEO_IMPORT_FEED_HEADER = "video-import-feed";
+  public static final String VIDEO_IMPORT_FENCING_TOKEN_HEADER = "video-import-fencing-token";
+  public static final String VIDEO_IMPORT_SEQUENCE_HEADER = "video-import-sequence";
+  public static final String VIDEO_IMPORT_CONTAINER_FACTORY = "videoImportContainerFactory";
+  public static final String VIDEO_IMPORT_CHUNK_CONTAINER_FACTORY = "videoImportChunkContainerFactory";
 
   @Bean
   public Queue videoImportQueue() {
-    return new Queue(VIDEO_IMPORT_QUEUE, true);
+    return QueueBuilder.durable(VIDEO_IMPORT_QUEUE)
+        .deadLetterExchange(VIDEO_IMPORT_DEAD_LETTER_EXCHANGE)
+        .deadLetterRoutingKey(VIDEO_IMPORT_PARKING_LOT_QUEUE)
+        .build();
+  }
+
+  @Bean
+  public DirectExchange videoImportDeadLetterExchange() {
+    return new DirectExchange(VIDEO_IMPORT_DEAD_LETTER_EXCHANGE, true, false);
+  }
+
+  @Bean
+  public Queue videoImportParkingLotQueue() {
+    return QueueBuilder.durable(VIDEO_IMPORT_PARKING_LOT_QUEUE).build();
+  }
+
+  @Bean
+  public Binding videoImportParkingLotBinding() {
+    return BindingBuilder.bind(videoImportParkingLotQueue())
+        .to(videoImportDeadLetterExchange())
+        .with(VIDEO_IMPORT_PARKING_LOT_QUEUE);
+  }
+
+  @Bean
+  public Queue videoImportRetryQueue(final VideoImportLeaseProperties leaseProperties) {
+    return QueueBuilder.durable(VIDEO_IMPORT_RETRY_QUEUE)
+        .ttl(Math.toIntExact(leaseProperties.ttl().toMillis()))
+        .deadLetterExchange("")
+        .deadLetterRoutingKey(VIDEO_IMPORT_QUEUE)
+        .build();
+  }
+
+  @Bean
+  public Queue videoImportChunkQueue() {
+    return new Queue(VIDEO_IMPORT_CHUNK_QUEUE, true);
   }
 
   @Bean
@@ -29,4 +86,39 @@ public class RabbitMqConfig {
     template.setMessageConverter(jsonMessageConverter());
     return template;
   }
+
+  @Bean(VIDEO_IMPORT_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory videoImportContainerFactory(
+      final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ConnectionFactory connectionFactory,
+      final RabbitProperties rabbitProperties) {
+    final SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setAdviceChain(retryAdvice(rabbitProperties, new RejectAndDontRequeueRecoverer()));
+    return factory;
+  }
+
+  @Bean(VIDEO_IMPORT_CHUNK_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory videoImportChunkContainerFactory(
+      final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ConnectionFactory connectionFactory,
+      final RabbitProperties rabbitProperties, final VideoImportPartitionProperties partitionProperties,
+      final MessageRecoverer videoImportChunkRecoverer) {
+    final SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setConcurrentConsumers(partitionProperties.concurrency());
+    factory.setMaxConcurrentConsumers(partitionProperties.maxConcurrency());
+    factory.setPrefetchCount(partitionProperties.prefetch());
+    factory.setAdviceChain(retryAdvice(rabbitProperties, videoImportChunkRecoverer));
+    return factory;
+  }
+
+  private RetryOperationsInterceptor retryAdvice(final RabbitProperties rabbitProperties,
+      final MessageRecoverer recoverer) {
+    final ListenerRetry retry = rabbitProperties.getListener().getSimple().getRetry();
+    return RetryInterceptorBuilder.stateless()
+        .maxAttempts(retry.getMaxAttempts())
+        .backOffOptions(retry.getInitialInterval().toMillis(), retry.getMultiplier(),
+            retry.getMaxInterval().toMillis())
+        .recoverer(recoverer)
+        .build();
+  }
 }
@@ -1,16 +1,28 @@
 package lt.svaskevicius.videometa.config;
 
+import com.esotericsoftware.kryo.Kryo;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.cache.KryoRedisSerializer;
+import lt.svaskevicius.videometa.cache.TwoLevelCacheManager;
 import lt.svaskevicius.videometa.config.properties.CacheProperties;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
+import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Configuration
 @EnableCaching
@@ -18,24 +30,52 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 public class RedisConfig {
 
   private static final Duration DEFAULT_TTL = Duration.ofSeconds(300);
+  private static final String KRYO_KEY_PREFIX = "kryo:";
 
   private final CacheProperties cacheProperties;
 
   @Bean
-  public RedisCacheManager cacheManager(final RedisConnectionFactory connectionFactory) {
+  public TwoLevelCacheManager cacheManager(final RedisConnectionFactory connectionFactory,
+      final StringRedisTemplate redisTemplate) {
     final RedisCacheConfiguration defaultConfig = createDefaultCacheConfiguration();
     final Map<String, RedisCacheConfiguration> cacheConfigurations = buildCacheConfigurations(defaultConfig);
 
-    return RedisCacheManager.builder(connectionFactory)
+    final RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
         .cacheDefaults(defaultConfig)
         .withInitialCacheConfigurations(cacheConfigurations)
         .build();
+    redisCacheManager.initializeCaches();
+    return new TwoLevelCacheManager(redisCacheManager, redisTemplate, cacheProperties);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      final RedisConnectionFactory connectionFactory, final TwoLevelCacheManager cacheManager) {
+    final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+    return container;
+  }
+
+  public static void registerCacheTypes(final Kryo kryo) {
+    kryo.register(byte[].class, 100);
+    kryo.register(ArrayList.class, 101);
+    kryo.register(SimpleGrantedAuthority.class, 102);
+    kryo.register(CurrentUserDetails.class, 103);
+    kryo.register(VideoStatisticsResponseDto.class, 104);
   }
 
   private RedisCacheConfiguration createDefaultCacheConfiguration() {
-    return RedisCacheConfiguration.defaultCacheConfig()
+    final RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
         .disableCachingNullValues()
         .entryTtl(DEFAULT_TTL);
+    return switch (cacheProperties.codec()) {
+      case JDK -> defaultConfig;
+      case KRYO -> defaultConfig
+          .computePrefixWith(cacheName -> KRYO_KEY_PREFIX + CacheKeyPrefix.simple().compute(cacheName))
+          .serializeValuesWith(SerializationPair.fromSerializer(
+              new KryoRedisSerializer(RedisConfig::registerCacheTypes)));
+    };
   }
 
   private Map<String, RedisCacheConfiguration> buildCacheConfigurations(final RedisCacheConfiguration baseConfig) {
@@ -45,4 +85,4 @@ public class RedisConfig {
             entry -> baseConfig.entryTtl(Duration.ofSeconds(entry.getValue()))
         ));
   }
-}
\ No newline at end of file
+}
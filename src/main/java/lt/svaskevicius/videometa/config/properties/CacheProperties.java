@@ -1,17 +1,46 @@
 package lt.svaskevicius.videometa.config.properties;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "cache")
-public record CacheProperties(Map<String, Long> entries) {
+public record CacheProperties(
+    Codec codec,
+    Map<String, Long> entries,
+    LocalCache localDefaults,
+    Map<String, LocalCache> local
+) {
 
   public CacheProperties {
+    codec = codec != null ? codec : Codec.KRYO;
     entries = entries != null ? Map.copyOf(entries) : Collections.emptyMap();
+    localDefaults = localDefaults != null ? localDefaults : new LocalCache(0, null);
+    local = local != null ? Map.copyOf(local) : Collections.emptyMap();
   }
 
   public Map<String, Long> entries() {
     return entries;
   }
-}
\ No newline at end of file
+
+  public LocalCache localCache(final String cacheName) {
+    return local.getOrDefault(cacheName, localDefaults);
+  }
+
+  public enum Codec {
+    JDK,
+    KRYO
+  }
+
+  public record LocalCache(long maximumSize, Duration ttl) {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    public LocalCache {
+      maximumSize = maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+      ttl = ttl != null ? ttl : DEFAULT_TTL;
+    }
+  }
+}
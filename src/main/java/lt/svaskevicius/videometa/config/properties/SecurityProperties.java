@@ -7,7 +7,15 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public record SecurityProperties(
     @NotNull String secretKey,
     @NotNull String issuer,
-    long expirationTimeInMillis
+    long expirationTimeInMillis,
+    Integer verifiedTokenCacheSize
 ) {
 
+  private static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+  public SecurityProperties {
+    verifiedTokenCacheSize = verifiedTokenCacheSize != null ?
+        verifiedTokenCacheSize :
+        DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+  }
 }
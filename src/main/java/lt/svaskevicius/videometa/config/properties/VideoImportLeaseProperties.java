@@ -0,0 +1,19 @@
+package lt.svaskevicius.videometa.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "video.import.lease")
+public record VideoImportLeaseProperties(
+    Duration ttl,
+    Duration jobTtl
+) {
+
+  private static final Duration DEFAULT_TTL = Duration.ofMinutes(2);
+  private static final Duration DEFAULT_JOB_TTL = Duration.ofHours(1);
+
+  public VideoImportLeaseProperties {
+    ttl = ttl != null ? ttl : DEFAULT_TTL;
+    jobTtl = jobTtl != null ? jobTtl : DEFAULT_JOB_TTL;
+  }
+}
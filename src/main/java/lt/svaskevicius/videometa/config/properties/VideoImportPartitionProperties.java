@@ -0,0 +1,30 @@
+package lt.svaskevicius.videometa.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "video.import.partition")
+public record VideoImportPartitionProperties(
+    int partitions,
+    int concurrency,
+    int maxConcurrency,
+    int prefetch,
+    Duration barrierTimeout,
+    Duration pollInterval
+) {
+
+  private static final int DEFAULT_PARTITIONS = 16;
+  private static final int DEFAULT_CONCURRENCY = 4;
+  private static final int DEFAULT_PREFETCH = 1;
+  private static final Duration DEFAULT_BARRIER_TIMEOUT = Duration.ofMinutes(30);
+  private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(500);
+
+  public VideoImportPartitionProperties {
+    partitions = partitions > 0 ? partitions : DEFAULT_PARTITIONS;
+    concurrency = concurrency > 0 ? concurrency : DEFAULT_CONCURRENCY;
+    maxConcurrency = Math.max(maxConcurrency, concurrency);
+    prefetch = prefetch > 0 ? prefetch : DEFAULT_PREFETCH;
+    barrierTimeout = barrierTimeout != null ? barrierTimeout : DEFAULT_BARRIER_TIMEOUT;
+    pollInterval = pollInterval != null ? pollInterval : DEFAULT_POLL_INTERVAL;
+  }
+}
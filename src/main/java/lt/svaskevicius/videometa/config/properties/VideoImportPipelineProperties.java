@@ -0,0 +1,18 @@
+package lt.svaskevicius.videometa.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "video.import.pipeline")
+public record VideoImportPipelineProperties(
+    int writeWorkers,
+    int writeQueueCapacity
+) {
+
+  private static final int DEFAULT_WRITE_WORKERS = 2;
+  private static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+  public VideoImportPipelineProperties {
+    writeWorkers = writeWorkers > 0 ? writeWorkers : DEFAULT_WRITE_WORKERS;
+    writeQueueCapacity = writeQueueCapacity > 0 ? writeQueueCapacity : DEFAULT_QUEUE_CAPACITY;
+  }
+}
@@ -0,0 +1,32 @@
+package lt.svaskevicius.videometa.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "video.import")
+public record VideoImportProperties(
+    int chunkSize,
+    int batchSize,
+    ImportMode mode,
+    int bulkThreshold
+) {
+
+  private static final int DEFAULT_CHUNK_SIZE = 500;
+  private static final int DEFAULT_BATCH_SIZE = 500;
+  private static final int DEFAULT_BULK_THRESHOLD = 10_000;
+  private static final int MAX_BIND_PARAMETERS = 65_535;
+  private static final int PARAMETERS_PER_VIDEO = 5;
+
+  public VideoImportProperties {
+    chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    batchSize = batchSize > 0 ? Math.min(batchSize, MAX_BIND_PARAMETERS / PARAMETERS_PER_VIDEO) : DEFAULT_BATCH_SIZE;
+    mode = mode != null ? mode : ImportMode.AUTO;
+    bulkThreshold = bulkThreshold > 0 ? bulkThreshold : DEFAULT_BULK_THRESHOLD;
+  }
+
+  public enum ImportMode {
+    AUTO,
+    BATCH,
+    BULK,
+    PARTITIONED
+  }
+}
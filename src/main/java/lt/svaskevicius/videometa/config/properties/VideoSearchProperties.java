@@ -0,0 +1,19 @@
+package lt.svaskevicius.videometa.config.properties;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "video.search")
+public record VideoSearchProperties(
+    Path indexPath,
+    int maxHits
+) {
+
+  private static final Path DEFAULT_INDEX_PATH = Path.of("data", "video-search-index");
+  private static final int DEFAULT_MAX_HITS = 1000;
+
+  public VideoSearchProperties {
+    indexPath = indexPath != null ? indexPath : DEFAULT_INDEX_PATH;
+    maxHits = maxHits > 0 ? maxHits : DEFAULT_MAX_HITS;
+  }
+}
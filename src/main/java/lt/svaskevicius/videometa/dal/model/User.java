@@ -29,6 +29,9 @@ public class User implements Serializable {
 
   private String authorities;
 
+  @Column(name = "token_version")
+  private long tokenVersion;
+
   @CreationTimestamp
   @Column(name = "created_at")
   private LocalDateTime createdAt;
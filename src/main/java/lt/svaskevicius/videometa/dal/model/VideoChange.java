@@ -0,0 +1,7 @@
+package lt.svaskevicius.videometa.dal.model;
+
+import java.util.UUID;
+
+public record VideoChange(UUID id, String title, String source) {
+
+}
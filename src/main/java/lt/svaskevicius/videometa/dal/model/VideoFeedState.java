@@ -0,0 +1,42 @@
+package lt.svaskevicius.videometa.dal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "video_feed_state")
+public class VideoFeedState {
+
+  @Id
+  private String feed;
+
+  private String etag;
+
+  @Column(name = "last_modified")
+  private String lastModified;
+
+  private String fingerprint;
+
+  private String cursor;
+
+  @Column(name = "fencing_token")
+  private long fencingToken;
+
+  @UpdateTimestamp
+  @Column(name = "imported_at")
+  private LocalDateTime importedAt;
+
+  public VideoFeedState(final String feed) {
+    this.feed = feed;
+  }
+}
@@ -0,0 +1,64 @@
+package lt.svaskevicius.videometa.dal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties.ImportMode;
+
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "video_import_chunk_progress")
+public class VideoImportChunkProgress {
+
+  @EmbeddedId
+  private Key id;
+
+  @Column(name = "fencing_token")
+  private Long fencingToken;
+
+  @Enumerated(EnumType.STRING)
+  private ImportMode mode;
+
+  private String etag;
+
+  @Column(name = "committed_rows")
+  private long committedRows;
+
+  @Column(name = "total_chunks")
+  private Integer totalChunks;
+
+  @Column(name = "completed_chunks")
+  private int completedChunks;
+
+  @Column(name = "failed_chunks")
+  private int failedChunks;
+
+  private long inserted;
+
+  private long updated;
+
+  private long unchanged;
+
+  private String error;
+
+  public VideoImportChunkProgress(final Key id) {
+    this.id = id;
+  }
+
+  @Embeddable
+  public record Key(
+      @Column(name = "trace_id")
+      UUID traceId,
+      String feed
+  ) {
+
+  }
+}
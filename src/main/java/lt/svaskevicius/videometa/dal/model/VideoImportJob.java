@@ -0,0 +1,78 @@
+package lt.svaskevicius.videometa.dal.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "video_import_jobs")
+public class VideoImportJob {
+
+  @Id
+  @Column(name = "trace_id")
+  private UUID traceId;
+
+  @Column(name = "initiator_user_id")
+  private UUID initiatorUserId;
+
+  @Enumerated(EnumType.STRING)
+  private State state;
+
+  @Column(name = "fetched_rows")
+  private long fetchedRows;
+
+  private long inserted;
+
+  private long updated;
+
+  private long unchanged;
+
+  @Column(name = "fetch_millis")
+  private long fetchMillis;
+
+  @Column(name = "map_millis")
+  private long mapMillis;
+
+  @Column(name = "upsert_millis")
+  private long upsertMillis;
+
+  @Column(name = "duration_millis")
+  private long durationMillis;
+
+  @Column(name = "rows_per_second")
+  private double rowsPerSecond;
+
+  private String error;
+
+  @CreationTimestamp
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  public VideoImportJob(final UUID traceId) {
+    this.traceId = traceId;
+  }
+
+  public enum State {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    SKIPPED,
+    FAILED
+  }
+}
@@ -0,0 +1,15 @@
+package lt.svaskevicius.videometa.dal.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record VideoSummary(
+    UUID id,
+    String title,
+    String source,
+    String url,
+    int duration,
+    LocalDate uploadDate
+) {
+
+}
@@ -0,0 +1,26 @@
+package lt.svaskevicius.videometa.dal.model;
+
+public record VideoUpsertResult(
+    long inserted,
+    long updated,
+    long unchanged
+) {
+
+  public static final VideoUpsertResult EMPTY = new VideoUpsertResult(0, 0, 0);
+
+  public VideoUpsertResult plus(final VideoUpsertResult other) {
+    return new VideoUpsertResult(
+        inserted + other.inserted,
+        updated + other.updated,
+        unchanged + other.unchanged
+    );
+  }
+
+  public boolean hasChanges() {
+    return inserted > 0 || updated > 0;
+  }
+
+  public long total() {
+    return inserted + updated + unchanged;
+  }
+}
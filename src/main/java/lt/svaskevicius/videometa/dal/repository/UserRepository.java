@@ -4,10 +4,15 @@ import java.util.Optional;
 import java.util.UUID;
 import lt.svaskevicius.videometa.dal.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
   Optional<User> findByUsername(String username);
+
+  @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.active = true")
+  Optional<Long> findActiveTokenVersionById(@Param("id") UUID id);
 }
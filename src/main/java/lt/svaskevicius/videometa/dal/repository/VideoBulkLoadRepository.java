@@ -0,0 +1,143 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoBulkLoadRepository {
+
+  private static final String TRUNCATE_STAGING = "TRUNCATE videos_staging";
+  private static final String COPY_INTO_STAGING = """
+      COPY videos_staging (ordinal, title, url, duration, source, upload_date) FROM STDIN WITH (FORMAT csv)
+      """;
+  private static final String MERGE_STAGING = """
+      WITH merged AS (
+          INSERT INTO videos (id, title, url, duration, source, upload_date, created_at, updated_at)
+          SELECT gen_random_uuid(), title, url, duration, source, upload_date, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+          FROM (SELECT DISTINCT ON (url) * FROM videos_staging ORDER BY url, ordinal DESC) staged
+          ON CONFLICT (url)
+          DO UPDATE SET
+              title = EXCLUDED.title,
+              duration = EXCLUDED.duration,
+              source = EXCLUDED.source,
+              upload_date = EXCLUDED.upload_date,
+              updated_at = CURRENT_TIMESTAMP,
+              write_txid = pg_current_xact_id()::text::bigint
+          WHERE (videos.title, videos.duration, videos.source, videos.upload_date)
+              IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.duration, EXCLUDED.source, EXCLUDED.upload_date)
+          RETURNING (xmax = 0) AS inserted
+      )
+      SELECT count(*) FILTER (WHERE inserted) AS inserted,
+             count(*) FILTER (WHERE NOT inserted) AS updated,
+             (SELECT count(DISTINCT url) FROM videos_staging) AS distinct_rows
+      FROM merged
+      """;
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  public StagingLoad beginStagingLoad() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Staging load must run inside a transaction");
+    }
+
+    jdbcTemplate.execute(TRUNCATE_STAGING);
+
+    final Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING);
+      TransactionSynchronizationManager.registerSynchronization(new CancelCopyOnCompletion(copyIn));
+      return new StagingLoad(copyIn);
+    } catch (final SQLException e) {
+      throw translate("COPY videos_staging", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private RuntimeException translate(final String task, final SQLException e) {
+    final RuntimeException translated = jdbcTemplate.getExceptionTranslator().translate(task, null, e);
+    return translated != null ? translated : new IllegalStateException(task + " failed", e);
+  }
+
+  public final class StagingLoad {
+
+    private final CopyIn copyIn;
+    private final StringBuilder rows = new StringBuilder();
+    private long ordinal;
+
+    private StagingLoad(final CopyIn copyIn) {
+      this.copyIn = copyIn;
+    }
+
+    public void write(final List<SourceVideoDto> videos) {
+      rows.setLength(0);
+      for (final SourceVideoDto video : videos) {
+        rows.append(ordinal++).append(',');
+        appendText(video.title()).append(',');
+        appendText(video.url()).append(',');
+        rows.append(video.duration()).append(',');
+        appendText(video.source()).append(',');
+        if (video.uploadDate() != null) {
+          rows.append(video.uploadDate());
+        }
+        rows.append('\n');
+      }
+
+      final byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+      try {
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+      } catch (final SQLException e) {
+        throw translate(COPY_INTO_STAGING, e);
+      }
+    }
+
+    public VideoUpsertResult merge() {
+      try {
+        copyIn.endCopy();
+      } catch (final SQLException e) {
+        throw translate(COPY_INTO_STAGING, e);
+      }
+      return jdbcTemplate.queryForObject(MERGE_STAGING, (rs, rowNum) -> {
+        final long inserted = rs.getLong("inserted");
+        final long updated = rs.getLong("updated");
+        return new VideoUpsertResult(inserted, updated, rs.getLong("distinct_rows") - inserted - updated);
+      });
+    }
+
+    private StringBuilder appendText(final String value) {
+      if (value == null) {
+        return rows;
+      }
+      return rows.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+  }
+
+  private record CancelCopyOnCompletion(CopyIn copyIn) implements TransactionSynchronization {
+
+    @Override
+    public void beforeCompletion() {
+      if (copyIn.isActive()) {
+        try {
+          copyIn.cancelCopy();
+        } catch (final SQLException e) {
+          throw new IllegalStateException("Failed to cancel COPY into videos_staging", e);
+        }
+      }
+    }
+  }
+}
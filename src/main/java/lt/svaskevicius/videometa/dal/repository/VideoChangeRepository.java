@@ -0,0 +1,43 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import java.sql.PreparedStatement;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.model.VideoChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoChangeRepository {
+
+  private static final String SELECT_SNAPSHOT_XMIN = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+  private static final String SELECT_WRITTEN_SINCE = """
+      SELECT id, title, source
+      FROM videos
+      WHERE write_txid >= ?
+      """;
+  private static final int FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional(readOnly = true)
+  public long forEachWrittenSince(final long sinceTxid, final Consumer<VideoChange> consumer) {
+    final long snapshotXmin = Objects.requireNonNull(jdbcTemplate.queryForObject(SELECT_SNAPSHOT_XMIN, Long.class));
+    jdbcTemplate.query(connection -> {
+      final PreparedStatement statement = connection.prepareStatement(SELECT_WRITTEN_SINCE);
+      statement.setFetchSize(FETCH_SIZE);
+      statement.setLong(1, sinceTxid);
+      return statement;
+    }, resultSet -> {
+      consumer.accept(new VideoChange(
+          resultSet.getObject("id", UUID.class),
+          resultSet.getString("title"),
+          resultSet.getString("source")));
+    });
+    return snapshotXmin;
+  }
+}
@@ -0,0 +1,60 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.web.model.SourceMatchMode;
+import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoCountRepository {
+
+  private static final String EXPLAIN_SELECT = "EXPLAIN (FORMAT JSON) SELECT 1 FROM videos WHERE TRUE";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public long estimateCount(final VideoFilterDto filter) {
+    final StringBuilder sql = new StringBuilder(EXPLAIN_SELECT);
+    final List<Object> parameters = new ArrayList<>();
+    if (filter.hasSource()) {
+      sql.append(filter.sourceMatch() == SourceMatchMode.EXACT ?
+          " AND lower(source) = ?" :
+          " AND lower(source) LIKE ? ESCAPE '" + SourceMatchMode.LIKE_ESCAPE + "'");
+      parameters.add(filter.sourceMatch().toPattern(filter.source()));
+    }
+    if (filter.uploadDateFrom() != null) {
+      sql.append(" AND upload_date >= ?");
+      parameters.add(filter.uploadDateFrom());
+    }
+    if (filter.uploadDateTo() != null) {
+      sql.append(" AND upload_date <= ?");
+      parameters.add(filter.uploadDateTo());
+    }
+    if (filter.durationFrom() != null) {
+      sql.append(" AND duration >= ?");
+      parameters.add(filter.durationFrom());
+    }
+    if (filter.durationTo() != null) {
+      sql.append(" AND duration <= ?");
+      parameters.add(filter.durationTo());
+    }
+
+    final String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, parameters.toArray());
+    try {
+      final JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+      if (!planRows.isNumber()) {
+        throw new IllegalStateException("Query plan has no row estimate: " + plan);
+      }
+      return planRows.asLong();
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException("Could not read query plan", e);
+    }
+  }
+}
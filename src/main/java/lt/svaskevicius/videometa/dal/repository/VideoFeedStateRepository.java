@@ -0,0 +1,25 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import lt.svaskevicius.videometa.dal.model.VideoFeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoFeedStateRepository extends JpaRepository<VideoFeedState, String> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO video_feed_state (feed, fencing_token)
+      VALUES (:feed, :fencingToken)
+      ON CONFLICT (feed)
+      DO UPDATE SET fencing_token = EXCLUDED.fencing_token
+      WHERE video_feed_state.fencing_token <= EXCLUDED.fencing_token
+      """, nativeQuery = true)
+  int advanceFencingToken(@Param("feed") String feed, @Param("fencingToken") long fencingToken);
+
+  @Query(value = "SELECT fencing_token FROM video_feed_state WHERE feed = :feed FOR SHARE", nativeQuery = true)
+  Long findFencingTokenForShare(@Param("feed") String feed);
+}
@@ -0,0 +1,115 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import java.util.UUID;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress.Key;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface VideoImportChunkProgressRepository extends JpaRepository<VideoImportChunkProgress, Key> {
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO video_import_chunk_progress (trace_id, feed, fencing_token, mode, etag)
+      VALUES (:traceId, :feed, :fencingToken, :mode, :etag)
+      ON CONFLICT (trace_id, feed)
+      DO UPDATE SET
+          fencing_token = EXCLUDED.fencing_token,
+          mode = EXCLUDED.mode,
+          etag = EXCLUDED.etag,
+          committed_rows = 0,
+          total_chunks = NULL,
+          completed_chunks = 0,
+          failed_chunks = 0,
+          inserted = 0,
+          updated = 0,
+          unchanged = 0,
+          error = NULL
+      """, nativeQuery = true)
+  int startProgress(@Param("traceId") UUID traceId, @Param("feed") String feed,
+      @Param("fencingToken") long fencingToken, @Param("mode") String mode,
+      @Param("etag") String etag);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE video_import_chunk_progress
+      SET committed_rows = :committedRows,
+          completed_chunks = :completedChunks,
+          inserted = :inserted,
+          updated = :updated,
+          unchanged = :unchanged
+      WHERE trace_id = :traceId AND feed = :feed
+      """, nativeQuery = true)
+  int saveCheckpoint(@Param("traceId") UUID traceId, @Param("feed") String feed,
+      @Param("committedRows") long committedRows, @Param("completedChunks") int completedChunks,
+      @Param("inserted") long inserted, @Param("updated") long updated, @Param("unchanged") long unchanged);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO video_import_chunk_progress (trace_id, feed, total_chunks, committed_rows)
+      VALUES (:traceId, :feed, :totalChunks, :publishedRows)
+      ON CONFLICT (trace_id, feed)
+      DO UPDATE SET
+          total_chunks = EXCLUDED.total_chunks,
+          committed_rows = EXCLUDED.committed_rows
+      """, nativeQuery = true)
+  int armChunkBarrier(@Param("traceId") UUID traceId, @Param("feed") String feed,
+      @Param("totalChunks") int totalChunks, @Param("publishedRows") long publishedRows);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO video_import_chunk_done (trace_id, feed, fencing_token, sequence)
+      VALUES (:traceId, :feed, :fencingToken, :sequence)
+      ON CONFLICT DO NOTHING
+      """, nativeQuery = true)
+  int claimChunk(@Param("traceId") UUID traceId, @Param("feed") String feed,
+      @Param("fencingToken") long fencingToken, @Param("sequence") int sequence);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO video_import_chunk_progress AS progress
+          (trace_id, feed, fencing_token, completed_chunks, inserted, updated, unchanged)
+      VALUES (:traceId, :feed, :fencingToken, 1, :inserted, :updated, :unchanged)
+      ON CONFLICT (trace_id, feed)
+      DO UPDATE SET
+          completed_chunks = progress.completed_chunks + 1,
+          inserted = progress.inserted + EXCLUDED.inserted,
+          updated = progress.updated + EXCLUDED.updated,
+          unchanged = progress.unchanged + EXCLUDED.unchanged
+      WHERE progress.fencing_token = EXCLUDED.fencing_token
+      """, nativeQuery = true)
+  int completeChunk(@Param("traceId") UUID traceId, @Param("feed") String feed,
+      @Param("fencingToken") long fencingToken, @Param("inserted") long inserted, @Param("updated") long updated,
+      @Param("unchanged") long unchanged);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      WITH claimed AS (
+          INSERT INTO video_import_chunk_done (trace_id, feed, fencing_token, sequence)
+          VALUES (:traceId, :feed, :fencingToken, :sequence)
+          ON CONFLICT DO NOTHING
+          RETURNING fencing_token
+      )
+      INSERT INTO video_import_chunk_progress AS progress (trace_id, feed, fencing_token, failed_chunks, error)
+      SELECT :traceId, :feed, claimed.fencing_token, 1, :error
+      FROM claimed
+      ON CONFLICT (trace_id, feed)
+      DO UPDATE SET
+          failed_chunks = progress.failed_chunks + 1,
+          error = EXCLUDED.error
+      WHERE progress.fencing_token = EXCLUDED.fencing_token
+      """, nativeQuery = true)
+  int failChunk(@Param("traceId") UUID traceId, @Param("feed") String feed, @Param("fencingToken") long fencingToken,
+      @Param("sequence") int sequence, @Param("error") String error);
+}
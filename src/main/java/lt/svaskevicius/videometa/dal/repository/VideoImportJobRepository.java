@@ -0,0 +1,14 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob.State;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoImportJobRepository extends JpaRepository<VideoImportJob, UUID> {
+
+  boolean existsByTraceIdAndStateIn(UUID traceId, Collection<State> states);
+}
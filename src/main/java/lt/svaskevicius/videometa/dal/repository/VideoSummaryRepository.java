@@ -0,0 +1,83 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.model.Video;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VideoSummaryRepository {
+
+  private final EntityManager entityManager;
+
+  public Page<VideoSummary> findPage(final Specification<Video> specification, final Pageable pageable) {
+    final List<VideoSummary> content = find(specification, pageable.getSort(), pageable.getOffset(),
+        pageable.getPageSize());
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+  }
+
+  public Slice<VideoSummary> findSlice(final Specification<Video> specification, final Pageable pageable) {
+    final List<VideoSummary> content = find(specification, pageable.getSort(), pageable.getOffset(),
+        pageable.getPageSize() + 1);
+    final boolean hasNext = content.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+  }
+
+  public List<VideoSummary> findAll(final Specification<Video> specification, final Sort sort, final int limit) {
+    return find(specification, sort, 0, limit);
+  }
+
+  private List<VideoSummary> find(final Specification<Video> specification, final Sort sort, final long offset,
+      final int limit) {
+    final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<VideoSummary> query = criteriaBuilder.createQuery(VideoSummary.class);
+    final Root<Video> root = query.from(Video.class);
+    query.select(criteriaBuilder.construct(VideoSummary.class,
+        root.get("id"), root.get("title"), root.get("source"), root.get("url"), root.get("duration"),
+        root.get("uploadDate")));
+    final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+    return entityManager.createQuery(query)
+        .setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit)
+        .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+        .getResultList();
+  }
+
+  private long count(final Specification<Video> specification) {
+    final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+    final Root<Video> root = query.from(Video.class);
+    query.select(criteriaBuilder.count(root));
+    final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query)
+        .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+        .getSingleResult();
+  }
+}
@@ -0,0 +1,98 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoUpsertRepository {
+
+  private static final String INSERT_INTO = """
+      INSERT INTO videos (id, title, url, duration, source, upload_date, created_at, updated_at)
+      VALUES
+      """;
+  private static final String ROW_VALUES = "(gen_random_uuid(), ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+  private static final String ON_CONFLICT = """
+
+      ON CONFLICT (url)
+      DO UPDATE SET
+          title = EXCLUDED.title,
+          duration = EXCLUDED.duration,
+          source = EXCLUDED.source,
+          upload_date = EXCLUDED.upload_date,
+          updated_at = CURRENT_TIMESTAMP,
+          write_txid = pg_current_xact_id()::text::bigint
+      WHERE (videos.title, videos.duration, videos.source, videos.upload_date)
+          IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.duration, EXCLUDED.source, EXCLUDED.upload_date)
+      RETURNING (xmax = 0) AS inserted
+      """;
+
+  private static final int PARAMETERS_PER_ROW = 5;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final VideoImportProperties videoImportProperties;
+
+  @Transactional
+  public VideoUpsertResult upsertSourceVideos(final List<SourceVideoDto> videos) {
+    final List<SourceVideoDto> distinctVideos = distinctByUrl(videos);
+    final int batchSize = videoImportProperties.batchSize();
+
+    long inserted = 0;
+    long updated = 0;
+    for (int from = 0; from < distinctVideos.size(); from += batchSize) {
+      final List<SourceVideoDto> batch = distinctVideos.subList(from,
+          Math.min(from + batchSize, distinctVideos.size()));
+      final long[] written = jdbcTemplate.query(statementFor(batch.size()), ps -> bind(ps, batch),
+          VideoUpsertRepository::countWritten);
+      inserted += written[0];
+      updated += written[1];
+    }
+    return new VideoUpsertResult(inserted, updated, distinctVideos.size() - inserted - updated);
+  }
+
+  private static long[] countWritten(final ResultSet rs) throws SQLException {
+    final long[] written = new long[2];
+    while (rs.next()) {
+      written[rs.getBoolean("inserted") ? 0 : 1]++;
+    }
+    return written;
+  }
+
+  private List<SourceVideoDto> distinctByUrl(final List<SourceVideoDto> videos) {
+    final Collection<SourceVideoDto> lastByUrl = videos.stream()
+        .collect(Collectors.toMap(SourceVideoDto::url, Function.identity(), (first, last) -> last, TreeMap::new))
+        .values();
+    return List.copyOf(lastByUrl);
+  }
+
+  private String statementFor(final int rows) {
+    return INSERT_INTO + String.join(",\n", Collections.nCopies(rows, ROW_VALUES)) + ON_CONFLICT;
+  }
+
+  private void bind(final PreparedStatement ps, final List<SourceVideoDto> batch) throws SQLException {
+    int index = 1;
+    for (final SourceVideoDto video : batch) {
+      ps.setString(index, video.title());
+      ps.setString(index + 1, video.url());
+      ps.setInt(index + 2, video.duration());
+      ps.setString(index + 3, video.source());
+      ps.setObject(index + 4, video.uploadDate(), Types.DATE);
+      index += PARAMETERS_PER_ROW;
+    }
+  }
+}
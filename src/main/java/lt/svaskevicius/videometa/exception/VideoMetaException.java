@@ -27,6 +27,7 @@ public class VideoMetaException extends RuntimeException {
   public enum VideoMetaErrorCode {
     UNEXPECTED("Unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR),
     NOT_FOUND("Resource not found", HttpStatus.NOT_FOUND),
+    INVALID_REQUEST("Invalid request", HttpStatus.BAD_REQUEST),
     INVALID_CREDENTIALS("Invalid credentials provided", HttpStatus.UNAUTHORIZED);
 
 
@@ -1,40 +1,141 @@
 package lt.svaskevicius.videometa.integration.mockoon;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
-import lt.svaskevicius.videometa.integration.mockoon.model.MockoonVideoDto;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties.Paging;
+import lt.svaskevicius.videometa.integration.source.VideoSourceConnector;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriBuilder;
 
 @Slf4j(topic = "MockoonClient")
 @Component
-public class MockoonClient {
+public class MockoonClient implements VideoSourceConnector {
 
+  private static final String NAME = "mockoon";
   private static final String ENDPOINT_VIDEOS = "/videos";
 
   private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
   private final RestClient restClient;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader videoReader;
+  private final MockoonClientConfigProperties properties;
 
-  public MockoonClient(final CircuitBreaker mockoonCircuitBreaker, final RestClient mockoonRestClient) {
+  public MockoonClient(final CircuitBreaker mockoonCircuitBreaker, final Bulkhead mockoonBulkhead,
+      final RestClient mockoonRestClient, final ObjectMapper objectMapper,
+      final MockoonClientConfigProperties mockoonClientConfigProperties) {
     this.circuitBreaker = mockoonCircuitBreaker;
+    this.bulkhead = mockoonBulkhead;
     this.restClient = mockoonRestClient;
+    this.objectMapper = objectMapper;
+    this.videoReader = objectMapper.readerFor(SourceVideoDto.class);
+    this.properties = mockoonClientConfigProperties;
   }
 
-  public List<MockoonVideoDto> getVideos() {
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public FetchStrategy fetchStrategy() {
+    return properties.isPaged() ? FetchStrategy.PAGED : FetchStrategy.STREAMING;
+  }
+
+  @Override
+  public Bulkhead bulkhead() {
+    return bulkhead;
+  }
+
+  @Override
+  public VideoSourceFeed fetchVideos(final SourceFeedConditions conditions) {
+    if (properties.isPaged()) {
+      final Paging paging = properties.paging();
+      return new PagedMockoonVideoFeed(page -> fetchPage(paging, page, conditions.cursor()), paging.firstPage(),
+          paging.pageSize(), paging.parallelism(), new SourceFeedConditions(null, null, conditions.cursor()));
+    }
+
     try {
-      return circuitBreaker.executeSupplier(() -> Arrays.stream(Objects.requireNonNull(restClient.get()
-              .uri(UriComponentsBuilder.fromPath(ENDPOINT_VIDEOS).toUriString())
-              .retrieve()
-              .body(MockoonVideoDto[].class)))
-          .toList());
+      return circuitBreaker.executeSupplier(() -> restClient.get()
+          .uri(uriBuilder -> videosUri(uriBuilder, conditions.cursor()))
+          .accept(MediaType.APPLICATION_JSON)
+          .headers(headers -> {
+            if (conditions.etag() != null) {
+              headers.setIfNoneMatch(conditions.etag());
+            }
+            if (conditions.lastModified() != null) {
+              headers.set(HttpHeaders.IF_MODIFIED_SINCE, conditions.lastModified());
+            }
+          })
+          .exchange((request, response) -> {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+              response.close();
+              return StreamedMockoonVideoFeed.notModified(conditions);
+            }
+            if (response.getStatusCode().isError()) {
+              response.close();
+              throw new RestClientResponseException("Unexpected response status " + response.getStatusCode(),
+                  response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null);
+            }
+            return new StreamedMockoonVideoFeed(objectMapper, videoReader, response,
+                nextConditions(conditions, response.getHeaders()));
+          }, false));
     } catch (final RestClientException e) {
       log.error("Failed to fetch videos from Mockoon", e);
       throw new RuntimeException("Failed to fetch videos from Mockoon", e);
     }
   }
+
+  private List<SourceVideoDto> fetchPage(final Paging paging, final int page, final String cursor) {
+    try {
+      return circuitBreaker.executeSupplier(() -> Arrays.asList(Objects.requireNonNull(restClient.get()
+          .uri(uriBuilder -> {
+            uriBuilder.queryParam(paging.pageParameter(), page);
+            if (paging.sizeParameter() != null) {
+              uriBuilder.queryParam(paging.sizeParameter(), paging.pageSize());
+            }
+            return videosUri(uriBuilder, cursor);
+          })
+          .accept(MediaType.APPLICATION_JSON)
+          .retrieve()
+          .body(SourceVideoDto[].class))));
+    } catch (final RestClientException e) {
+      log.error("Failed to fetch videos page {} from Mockoon", page, e);
+      throw new RuntimeException("Failed to fetch videos from Mockoon", e);
+    }
+  }
+
+  private URI videosUri(final UriBuilder uriBuilder, final String cursor) {
+    uriBuilder.path(ENDPOINT_VIDEOS);
+    if (cursor == null || properties.sinceParameter() == null) {
+      return uriBuilder.build();
+    }
+    return uriBuilder.queryParam(properties.sinceParameter(), "{cursor}").build(cursor);
+  }
+
+  private SourceFeedConditions nextConditions(final SourceFeedConditions conditions, final HttpHeaders headers) {
+    final String cursor = properties.cursorHeader() != null ? headers.getFirst(properties.cursorHeader()) : null;
+    return new SourceFeedConditions(
+        headers.getETag(),
+        headers.getFirst(HttpHeaders.LAST_MODIFIED),
+        cursor != null ? cursor : conditions.cursor()
+    );
+  }
 }
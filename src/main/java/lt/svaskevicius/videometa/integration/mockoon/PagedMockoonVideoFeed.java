@@ -0,0 +1,109 @@
+package lt.svaskevicius.videometa.integration.mockoon;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+
+final class PagedMockoonVideoFeed implements VideoSourceFeed {
+
+  private final IntFunction<List<SourceVideoDto>> pageFetcher;
+  private final int firstPage;
+  private final int pageSize;
+  private final int parallelism;
+  private final SourceFeedConditions conditions;
+
+  PagedMockoonVideoFeed(final IntFunction<List<SourceVideoDto>> pageFetcher, final int firstPage,
+      final int pageSize, final int parallelism, final SourceFeedConditions conditions) {
+    this.pageFetcher = pageFetcher;
+    this.firstPage = firstPage;
+    this.pageSize = pageSize;
+    this.parallelism = parallelism;
+    this.conditions = conditions;
+  }
+
+  @Override
+  public boolean isModified() {
+    return true;
+  }
+
+  @Override
+  public String fingerprint() {
+    return null;
+  }
+
+  @Override
+  public SourceFeedConditions conditions() {
+    return conditions;
+  }
+
+  @Override
+  public long streamVideos(final int chunkSize, final Consumer<List<SourceVideoDto>> chunkConsumer) {
+    final BlockingQueue<FetchedPage> arrived = new LinkedBlockingQueue<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      int nextPage = firstPage;
+      int inFlight = 0;
+      boolean exhausted = false;
+      long total = 0;
+
+      while (inFlight < parallelism) {
+        submit(executor, arrived, nextPage++);
+        inFlight++;
+      }
+
+      try {
+        while (inFlight > 0) {
+          final FetchedPage page = arrived.take();
+          inFlight--;
+          if (page.failure() instanceof RuntimeException e) {
+            throw e;
+          }
+          if (page.failure() instanceof Error e) {
+            throw e;
+          }
+
+          exhausted |= page.videos().size() < pageSize;
+          if (!exhausted) {
+            submit(executor, arrived, nextPage++);
+            inFlight++;
+          }
+
+          for (int from = 0; from < page.videos().size(); from += chunkSize) {
+            chunkConsumer.accept(page.videos().subList(from, Math.min(from + chunkSize, page.videos().size())));
+          }
+          total += page.videos().size();
+        }
+        return total;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while fetching videos from Mockoon", e);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private void submit(final ExecutorService executor, final BlockingQueue<FetchedPage> arrived, final int page) {
+    executor.execute(() -> {
+      try {
+        arrived.add(new FetchedPage(pageFetcher.apply(page), null));
+      } catch (final RuntimeException | Error e) {
+        arrived.add(new FetchedPage(List.of(), e));
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+  }
+
+  private record FetchedPage(List<SourceVideoDto> videos, Throwable failure) {
+
+  }
+}
@@ -0,0 +1,113 @@
+package lt.svaskevicius.videometa.integration.mockoon;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Consumer;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.springframework.http.client.ClientHttpResponse;
+
+final class StreamedMockoonVideoFeed implements VideoSourceFeed {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectReader videoReader;
+  private final ClientHttpResponse response;
+  private final SourceFeedConditions conditions;
+  private String fingerprint;
+
+  StreamedMockoonVideoFeed(final ObjectMapper objectMapper, final ObjectReader videoReader,
+      final ClientHttpResponse response, final SourceFeedConditions conditions) {
+    this.objectMapper = objectMapper;
+    this.videoReader = videoReader;
+    this.response = response;
+    this.conditions = conditions;
+  }
+
+  static StreamedMockoonVideoFeed notModified(final SourceFeedConditions conditions) {
+    return new StreamedMockoonVideoFeed(null, null, null, conditions);
+  }
+
+  @Override
+  public boolean isModified() {
+    return response != null;
+  }
+
+  @Override
+  public String fingerprint() {
+    return fingerprint;
+  }
+
+  @Override
+  public SourceFeedConditions conditions() {
+    return conditions;
+  }
+
+  @Override
+  public long streamVideos(final int chunkSize, final Consumer<List<SourceVideoDto>> chunkConsumer) {
+    if (response == null) {
+      return 0;
+    }
+
+    final MessageDigest digest = sha256();
+    try (InputStream body = new DigestInputStream(response.getBody(), digest);
+        JsonParser parser = objectMapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new JsonParseException(parser, "Expected an array of videos");
+      }
+
+      long total = 0;
+      List<SourceVideoDto> chunk = new ArrayList<>(chunkSize);
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        chunk.add(videoReader.readValue(parser));
+        total++;
+
+        if (chunk.size() == chunkSize) {
+          chunkConsumer.accept(chunk);
+          chunk = new ArrayList<>(chunkSize);
+        }
+      }
+
+      if (parser.currentToken() != JsonToken.END_ARRAY) {
+        throw new JsonParseException(parser, "Expected a video object");
+      }
+
+      if (!chunk.isEmpty()) {
+        chunkConsumer.accept(chunk);
+      }
+      body.transferTo(OutputStream.nullOutputStream());
+      fingerprint = HexFormat.of().formatHex(digest.digest());
+      return total;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read videos from Mockoon feed", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (response != null) {
+      response.close();
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package lt.svaskevicius.videometa.integration.mockoon.config;
+
+import io.airlift.compress.zstd.ZstdInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+final class DecompressingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Set<String> SUPPORTED_CODINGS = Set.of("gzip", "x-gzip", "zstd", "deflate");
+
+  private final String acceptEncoding;
+
+  DecompressingClientHttpRequestInterceptor(final List<String> acceptEncoding) {
+    this.acceptEncoding = String.join(", ", acceptEncoding);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+      final ClientHttpRequestExecution execution) throws IOException {
+    if (!acceptEncoding.isEmpty() && !request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+      request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+
+    final ClientHttpResponse response = execution.execute(request, body);
+    final List<String> contentCodings = contentCodings(response.getHeaders());
+    if (contentCodings.isEmpty()) {
+      return response;
+    }
+    return new DecompressedResponse(response, contentCodings);
+  }
+
+  private static List<String> contentCodings(final HttpHeaders headers) {
+    return headers.getOrEmpty(HttpHeaders.CONTENT_ENCODING).stream()
+        .flatMap(value -> Arrays.stream(value.split(",")))
+        .map(coding -> coding.trim().toLowerCase(Locale.ROOT))
+        .filter(coding -> !coding.isEmpty() && !coding.equals("identity"))
+        .toList();
+  }
+
+  private static final class DecompressedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse response;
+    private final List<String> contentCodings;
+    private final HttpHeaders headers;
+    private InputStream body;
+
+    private DecompressedResponse(final ClientHttpResponse response, final List<String> contentCodings) {
+      this.response = response;
+      this.contentCodings = contentCodings;
+      this.headers = new HttpHeaders();
+      this.headers.putAll(response.getHeaders());
+      this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+      this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return response.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = decode(response.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      response.close();
+    }
+
+    private InputStream decode(final InputStream encoded) throws IOException {
+      if (!SUPPORTED_CODINGS.containsAll(contentCodings)) {
+        throw new IOException("Unsupported Content-Encoding " + String.join(", ", contentCodings));
+      }
+
+      InputStream decoded = encoded;
+      for (int i = contentCodings.size() - 1; i >= 0; i--) {
+        decoded = decode(decoded, contentCodings.get(i));
+      }
+      return decoded;
+    }
+
+    private static InputStream decode(final InputStream encoded, final String contentCoding) throws IOException {
+      return switch (contentCoding) {
+        case "gzip", "x-gzip" -> new GZIPInputStream(encoded, BUFFER_SIZE);
+        case "zstd" -> new ZstdInputStream(encoded);
+        case "deflate" -> new InflaterInputStream(encoded);
+        default -> throw new IOException("Unsupported Content-Encoding " + contentCoding);
+      };
+    }
+  }
+}
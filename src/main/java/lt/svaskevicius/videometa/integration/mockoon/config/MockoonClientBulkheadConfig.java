@@ -0,0 +1,21 @@
+package lt.svaskevicius.videometa.integration.mockoon.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MockoonClientBulkheadConfig {
+
+  @Bean
+  public Bulkhead mockoonBulkhead(final MockoonClientConfigProperties mockoonClientConfigProperties) {
+    final MockoonClientConfigProperties.Bulkhead properties = mockoonClientConfigProperties.bulkhead();
+    final BulkheadConfig config = BulkheadConfig.custom()
+        .maxConcurrentCalls(properties.maxConcurrentCalls())
+        .maxWaitDuration(properties.maxWait())
+        .build();
+    return BulkheadRegistry.of(config).bulkhead("mockoonClientBulkhead");
+  }
+}
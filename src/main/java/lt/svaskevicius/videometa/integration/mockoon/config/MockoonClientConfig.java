@@ -1,23 +1,67 @@
 package lt.svaskevicius.videometa.integration.mockoon.config;
 
-import java.time.Duration;
+import java.net.http.HttpClient;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties.Transport;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties.Transport.Protocol;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
 import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class MockoonClientConfig {
 
+  private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
   @Bean
-  public RestClient mockoonRestClient(final RestClient.Builder builder,
+  public ClientHttpRequestFactory mockoonClientHttpRequestFactory(
       final MockoonClientConfigProperties mockoonClientConfigProperties) {
-    final var requestFactory = ClientHttpRequestFactorySettings.defaults().withConnectTimeout(Duration.ofSeconds(30))
-        .withReadTimeout(Duration.ofSeconds(30));
+    final Transport transport = mockoonClientConfigProperties.transport();
+    final var requestFactory = ClientHttpRequestFactorySettings.defaults()
+        .withConnectTimeout(transport.connectTimeout())
+        .withReadTimeout(transport.readTimeout());
+
+    if (transport.protocol() == Protocol.HTTP_2) {
+      return ClientHttpRequestFactoryBuilder.jdk()
+          .withHttpClientCustomizer(httpClient -> httpClient.version(HttpClient.Version.HTTP_2))
+          .build(requestFactory.withReadTimeout(transport.responseTimeout()));
+    }
+
+    return ClientHttpRequestFactoryBuilder.httpComponents()
+        .withConnectionManagerCustomizer(connectionManager -> connectionManager
+            .setMaxConnTotal(transport.maxConnections())
+            .setMaxConnPerRoute(transport.maxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(transport.connectTimeout()))
+                .setSocketTimeout(Timeout.of(transport.readTimeout()))
+                .setTimeToLive(TimeValue.of(transport.connectionTtl()))
+                .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                .build()))
+        .withDefaultRequestConfigCustomizer(requestConfig -> requestConfig
+            .setConnectionRequestTimeout(Timeout.of(transport.connectionRequestTimeout()))
+            .setResponseTimeout(Timeout.of(transport.responseTimeout()))
+            .setConnectionKeepAlive(TimeValue.of(transport.keepAlive())))
+        .withHttpClientCustomizer(httpClient -> httpClient
+            .disableContentCompression()
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(transport.keepAlive())))
+        .build(requestFactory);
+  }
 
+  @Bean
+  public RestClient mockoonRestClient(final RestClient.Builder builder,
+      @Qualifier("mockoonClientHttpRequestFactory") final ClientHttpRequestFactory mockoonClientHttpRequestFactory,
+      final MockoonClientConfigProperties mockoonClientConfigProperties) {
     return builder.baseUrl(mockoonClientConfigProperties.baseUrl())
-        .requestFactory(ClientHttpRequestFactoryBuilder.detect().build(requestFactory))
+        .requestFactory(mockoonClientHttpRequestFactory)
+        .requestInterceptor(new DecompressingClientHttpRequestInterceptor(
+            mockoonClientConfigProperties.transport().acceptEncoding()))
         .build();
   }
 }
@@ -1,10 +1,100 @@
 package lt.svaskevicius.videometa.integration.mockoon.config;
 
+import java.time.Duration;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "integration.mockoon")
 public record MockoonClientConfigProperties(
-    String baseUrl
+    String baseUrl,
+    String sinceParameter,
+    String cursorHeader,
+    Paging paging,
+    Bulkhead bulkhead,
+    Transport transport
 ) {
 
+  public MockoonClientConfigProperties {
+    bulkhead = bulkhead != null ? bulkhead : new Bulkhead(0, null);
+    transport = transport != null ? transport : new Transport(null, null, null, null, null, 0, 0, null, null, null);
+  }
+
+  public boolean isPaged() {
+    return paging != null && paging.pageParameter() != null;
+  }
+
+  public record Paging(
+      String pageParameter,
+      String sizeParameter,
+      int firstPage,
+      int pageSize,
+      int parallelism
+  ) {
+
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    public Paging {
+      pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+      parallelism = parallelism > 0 ? parallelism : DEFAULT_PARALLELISM;
+    }
+  }
+
+  public record Bulkhead(
+      int maxConcurrentCalls,
+      Duration maxWait
+  ) {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 1;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ZERO;
+
+    public Bulkhead {
+      maxConcurrentCalls = maxConcurrentCalls > 0 ? maxConcurrentCalls : DEFAULT_MAX_CONCURRENT_CALLS;
+      maxWait = maxWait != null ? maxWait : DEFAULT_MAX_WAIT;
+    }
+  }
+
+  public record Transport(
+      Protocol protocol,
+      Duration connectTimeout,
+      Duration connectionRequestTimeout,
+      Duration responseTimeout,
+      Duration readTimeout,
+      int maxConnections,
+      int maxConnectionsPerRoute,
+      Duration keepAlive,
+      Duration connectionTtl,
+      List<String> acceptEncoding
+  ) {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_CONNECTION_TTL = Duration.ofMinutes(5);
+    private static final List<String> DEFAULT_ACCEPT_ENCODING = List.of("zstd", "gzip");
+
+    public Transport {
+      protocol = protocol != null ? protocol : Protocol.HTTP_1_1;
+      connectTimeout = connectTimeout != null ? connectTimeout : DEFAULT_CONNECT_TIMEOUT;
+      connectionRequestTimeout = connectionRequestTimeout != null
+          ? connectionRequestTimeout
+          : DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+      responseTimeout = responseTimeout != null ? responseTimeout : DEFAULT_RESPONSE_TIMEOUT;
+      readTimeout = readTimeout != null ? readTimeout : DEFAULT_READ_TIMEOUT;
+      maxConnections = maxConnections > 0 ? maxConnections : DEFAULT_MAX_CONNECTIONS;
+      maxConnectionsPerRoute = maxConnectionsPerRoute > 0 ? maxConnectionsPerRoute : DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+      keepAlive = keepAlive != null ? keepAlive : DEFAULT_KEEP_ALIVE;
+      connectionTtl = connectionTtl != null ? connectionTtl : DEFAULT_CONNECTION_TTL;
+      acceptEncoding = acceptEncoding != null ? List.copyOf(acceptEncoding) : DEFAULT_ACCEPT_ENCODING;
+    }
+
+    public enum Protocol {
+      HTTP_1_1,
+      HTTP_2
+    }
+  }
 }
@@ -0,0 +1,21 @@
+package lt.svaskevicius.videometa.integration.source;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+
+public interface VideoSourceConnector {
+
+  String name();
+
+  FetchStrategy fetchStrategy();
+
+  Bulkhead bulkhead();
+
+  VideoSourceFeed fetchVideos(SourceFeedConditions conditions);
+
+  enum FetchStrategy {
+    FULL,
+    PAGED,
+    STREAMING
+  }
+}
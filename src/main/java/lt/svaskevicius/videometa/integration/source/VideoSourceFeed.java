@@ -0,0 +1,20 @@
+package lt.svaskevicius.videometa.integration.source;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+
+public interface VideoSourceFeed extends AutoCloseable {
+
+  boolean isModified();
+
+  String fingerprint();
+
+  SourceFeedConditions conditions();
+
+  long streamVideos(int chunkSize, Consumer<List<SourceVideoDto>> chunkConsumer);
+
+  @Override
+  void close();
+}
@@ -0,0 +1,10 @@
+package lt.svaskevicius.videometa.integration.source.model;
+
+public record SourceFeedConditions(
+    String etag,
+    String lastModified,
+    String cursor
+) {
+
+  public static final SourceFeedConditions NONE = new SourceFeedConditions(null, null, null);
+}
@@ -1,10 +1,10 @@
-package lt.svaskevicius.videometa.integration.mockoon.model;
+package lt.svaskevicius.videometa.integration.source.model;
 
 import java.time.LocalDate;
 import lombok.Builder;
 
 @Builder
-public record MockoonVideoDto(
+public record SourceVideoDto(
     String id,
     String title,
     String source,
@@ -0,0 +1,21 @@
+package lt.svaskevicius.videometa.mapper;
+
+import lt.svaskevicius.videometa.dal.model.VideoImportJob;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto.StageDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface VideoImportJobMapper {
+
+  @Mapping(target = "fetch", expression = "java(toStageDto(job.getFetchMillis(), job.getFetchedRows()))")
+  @Mapping(target = "map", expression = "java(toStageDto(job.getMapMillis(), job.getFetchedRows()))")
+  @Mapping(target = "upsert", expression = "java(toStageDto(job.getUpsertMillis(), job.getFetchedRows()))")
+  VideoImportJobResponseDto toVideoImportJobResponseDto(VideoImportJob job);
+
+  default StageDto toStageDto(final long millis, final long rows) {
+    return new StageDto(millis, millis > 0 ? rows * 1000.0 / millis : 0);
+  }
+}
@@ -2,12 +2,15 @@ package lt.svaskevicius.videometa.mapper;
 
 import java.util.List;
 import lt.svaskevicius.videometa.dal.model.Video;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.service.video.VideoPage;
+import lt.svaskevicius.videometa.web.model.video.VideoCursorPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoResponseDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface VideoMapper {
@@ -15,15 +18,34 @@ public interface VideoMapper {
   @Mapping(target = "id", expression = "java(video.getId().toString())")
   VideoResponseDto toVideoResponseDto(Video video);
 
-  List<VideoResponseDto> toVideoResponseDtoList(List<Video> videos);
+  @Mapping(target = "id", expression = "java(videoSummary.id().toString())")
+  VideoResponseDto toVideoResponseDto(VideoSummary videoSummary);
 
-  default VideoPageResponseDto toVideoPageResponseDto(final Page<Video> videoPage) {
+  List<VideoResponseDto> toVideoResponseDtoList(List<VideoSummary> videos);
+
+  default VideoPageResponseDto toVideoPageResponseDto(final VideoPage videoPage) {
+    final Slice<VideoSummary> videos = videoPage.videos();
+    final Long totalElements = videoPage.totalElements();
     return new VideoPageResponseDto(
-        videoPage.getNumber(),
-        videoPage.getSize(),
-        videoPage.getTotalElements(),
-        videoPage.getTotalPages(),
-        toVideoResponseDtoList(videoPage.getContent())
+        videos.getNumber(),
+        videos.getSize(),
+        totalElements,
+        totalElements == null ? null : (int) Math.ceil((double) totalElements / videos.getSize()),
+        videos.hasNext(),
+        videoPage.countMode(),
+        videoPage.truncated(),
+        toVideoResponseDtoList(videos.getContent())
+    );
+  }
+
+  default VideoCursorPageResponseDto toVideoCursorPageResponseDto(final VideoPage videoPage,
+      final String nextCursor) {
+    final Slice<VideoSummary> videos = videoPage.videos();
+    return new VideoCursorPageResponseDto(
+        videos.getSize(),
+        nextCursor,
+        videoPage.truncated(),
+        toVideoResponseDtoList(videos.getContent())
     );
   }
-}
\ No newline at end of file
+}
@@ -1,37 +1,73 @@
 package lt.svaskevicius.videometa.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lt.svaskevicius.videometa.config.properties.SecurityProperties;
+import lt.svaskevicius.videometa.security.model.TokenClaims;
 import lt.svaskevicius.videometa.security.model.TokenData;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
   private static final int MINIMUM_SECRET_KEY_LENGTH = 32;
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String AUTHORITIES_CLAIM = "authorities";
+  private static final String TOKEN_VERSION_CLAIM = "ver";
 
   private final SecurityProperties securityProperties;
+  private final SecretKey signingKey;
+  private final JwtParser jwtParser;
+  private final Cache<String, TokenClaims> verifiedTokens;
+
+  public JwtTokenProvider(final SecurityProperties securityProperties) {
+    validateSecretKey(securityProperties);
+    this.securityProperties = securityProperties;
+    this.signingKey = Keys.hmacShaKeyFor(securityProperties.secretKey().getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parser()
+        .verifyWith(signingKey)
+        .requireIssuer(securityProperties.issuer())
+        .build();
+    this.verifiedTokens = securityProperties.verifiedTokenCacheSize() > 0 ?
+        Caffeine.newBuilder()
+            .maximumSize(securityProperties.verifiedTokenCacheSize())
+            .expireAfter(Expiry.creating((String tokenHash, TokenClaims claims) ->
+                Duration.between(Instant.now(), claims.expiresAt())))
+            .build() :
+        null;
+  }
 
-  public TokenData generateToken(final Authentication authentication) {
+  public TokenData generateToken(final Authentication authentication, final long tokenVersion) {
     if (authentication == null || !StringUtils.hasText(authentication.getName())) {
       throw new IllegalArgumentException("Authentication and username cannot be null or empty");
     }
-
-    validateSecretKey();
+    if (!(authentication.getPrincipal() instanceof final CurrentUserDetails userDetails)) {
+      throw new IllegalArgumentException("Authentication principal must be a CurrentUserDetails");
+    }
 
     final String username = authentication.getName();
     final Instant now = Instant.now();
@@ -39,10 +75,13 @@ public class JwtTokenProvider {
 
     final String token = Jwts.builder()
         .subject(username)
+        .claim(USER_ID_CLAIM, userDetails.getId())
+        .claim(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+        .claim(TOKEN_VERSION_CLAIM, tokenVersion)
         .issuer(securityProperties.issuer())
         .issuedAt(Date.from(now))
         .expiration(Date.from(expiration))
-        .signWith(getSigningKey())
+        .signWith(signingKey)
         .compact();
 
     return TokenData.builder()
@@ -52,66 +91,69 @@ public class JwtTokenProvider {
         .build();
   }
 
-  private void validateSecretKey() {
-    if (!StringUtils.hasText(securityProperties.secretKey())
-        || securityProperties.secretKey().getBytes(StandardCharsets.UTF_8).length < MINIMUM_SECRET_KEY_LENGTH) {
-      throw new IllegalStateException("JWT secret key must be at least " + MINIMUM_SECRET_KEY_LENGTH + " bytes long");
-    }
-  }
-
-  private SecretKey getSigningKey() {
-    final byte[] keyBytes = securityProperties.secretKey().getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
-  }
-
-  public String getUsernameFromToken(final String token) {
+  public Optional<TokenClaims> verifyToken(final String token) {
     if (!StringUtils.hasText(token)) {
-      throw new IllegalArgumentException("Token cannot be null or empty");
+      return Optional.empty();
     }
 
-    final Claims claims = parseToken(token);
-    final String username = claims.getSubject();
+    final String tokenHash = verifiedTokens != null ? sha256Hex(token) : null;
+    if (tokenHash != null) {
+      final TokenClaims cached = verifiedTokens.getIfPresent(tokenHash);
+      if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+        return Optional.of(cached);
+      }
+    }
 
-    if (!StringUtils.hasText(username)) {
-      throw new JwtException("Token subject (username) is null or empty");
+    final TokenClaims claims;
+    try {
+      claims = toTokenClaims(jwtParser.parseSignedClaims(token).getPayload());
+    } catch (final JwtException | IllegalArgumentException e) {
+      log.warn("Rejected JWT token: {}", e.getMessage());
+      return Optional.empty();
     }
 
-    return username;
+    if (claims == null) {
+      return Optional.empty();
+    }
+    if (tokenHash != null) {
+      verifiedTokens.put(tokenHash, claims);
+    }
+    return Optional.of(claims);
   }
 
-  public boolean validateToken(final String token) {
-    if (!StringUtils.hasText(token)) {
-      return false;
+  private static TokenClaims toTokenClaims(final Claims claims) {
+    final Date expiration = claims.getExpiration();
+    final Date issuedAt = claims.getIssuedAt();
+    if (expiration == null || issuedAt != null && issuedAt.after(new Date())) {
+      return null;
     }
 
-    try {
-      final Claims claims = parseToken(token);
-      final Date expiration = claims.getExpiration();
-      final Date now = new Date();
-
-      if (!securityProperties.issuer().equals(claims.getIssuer())) {
-        log.warn("Invalid issuer {}", claims.getIssuer());
-        return false;
-      }
-
-      if (expiration.before(now)) {
-        return false;
-      }
+    final String userId = claims.get(USER_ID_CLAIM, String.class);
+    final List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+    final Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
 
-      final Date issuedAt = claims.getIssuedAt();
+    return TokenClaims.builder()
+        .username(claims.getSubject())
+        .userId(userId != null ? UUID.fromString(userId) : null)
+        .authorities(authorities != null ? authorities.stream().map(String::valueOf).toList() : List.of())
+        .tokenVersion(tokenVersion != null ? tokenVersion.longValue() : null)
+        .expiresAt(expiration.toInstant())
+        .build();
+  }
 
-      return issuedAt == null || !issuedAt.after(now);
-    } catch (final Exception e) {
-      log.warn("Unexpected error during token validation", e);
-      return false;
+  private static void validateSecretKey(final SecurityProperties securityProperties) {
+    if (!StringUtils.hasText(securityProperties.secretKey())
+        || securityProperties.secretKey().getBytes(StandardCharsets.UTF_8).length < MINIMUM_SECRET_KEY_LENGTH) {
+      throw new IllegalStateException("JWT secret key must be at least " + MINIMUM_SECRET_KEY_LENGTH + " bytes long");
     }
   }
 
-  private Claims parseToken(final String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  private static String sha256Hex(final String token) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
   }
-}
\ No newline at end of file
+}
@@ -10,12 +10,12 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lt.svaskevicius.videometa.security.JwtTokenProvider;
+import lt.svaskevicius.videometa.security.model.TokenClaims;
+import lt.svaskevicius.videometa.service.identity.UserTokenVersionService;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -30,8 +30,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
   private static final String BEARER_PREFIX = "Bearer ";
   private static final int BEARER_PREFIX_LENGTH = 7;
 
-  private final UserDetailsService userDetailsService;
   private final JwtTokenProvider jwtTokenProvider;
+  private final UserTokenVersionService userTokenVersionService;
 
   @Override
   protected void doFilterInternal(
@@ -60,21 +60,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
   }
 
   private void authenticateUser(final String jwtToken, final HttpServletRequest request) {
-    if (!jwtTokenProvider.validateToken(jwtToken)) {
-      throw new BadCredentialsException("Invalid or expired JWT token");
-    }
-
-    final String username = jwtTokenProvider.getUsernameFromToken(jwtToken);
-    if (!StringUtils.hasText(username)) {
+    final TokenClaims claims = jwtTokenProvider.verifyToken(jwtToken)
+        .orElseThrow(() -> new BadCredentialsException("Invalid or expired JWT token"));
+    if (!StringUtils.hasText(claims.username())) {
       throw new BadCredentialsException("Username not found in JWT token");
     }
-
-    final UserDetails userDetails = loadUserDetails(username);
-    if (!username.equals(userDetails.getUsername())) {
-      throw new BadCredentialsException("Token username mismatch") {
-      };
+    if (!isCurrentTokenVersion(claims)) {
+      log.warn("Rejected revoked token of user {}", claims.username());
+      throw new BadCredentialsException("Token has been revoked");
     }
 
+    final CurrentUserDetails userDetails = new CurrentUserDetails(claims.userId().toString(), claims.username(),
+        claims.authorities());
     final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
         userDetails,
         null,
@@ -84,15 +81,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-    log.debug("User {} authenticated successfully", username);
+    log.debug("User {} authenticated successfully", claims.username());
   }
 
-  private UserDetails loadUserDetails(final String username) {
-    try {
-      return userDetailsService.loadUserByUsername(username);
-    } catch (final UsernameNotFoundException e) {
-      log.warn("User not found: {}", username);
-      throw new BadCredentialsException("User not found", e);
+  private boolean isCurrentTokenVersion(final TokenClaims claims) {
+    if (claims.userId() == null || claims.tokenVersion() == null) {
+      return false;
     }
+    return userTokenVersionService.findActiveTokenVersion(claims.userId())
+        .map(claims.tokenVersion()::equals)
+        .orElse(false);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package lt.svaskevicius.videometa.security.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record TokenClaims(
+    String username,
+    UUID userId,
+    List<String> authorities,
+    Long tokenVersion,
+    Instant expiresAt
+) {
+
+}
@@ -1,9 +1,12 @@
 package lt.svaskevicius.videometa.service.identity;
 
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lt.svaskevicius.videometa.security.JwtTokenProvider;
 import lt.svaskevicius.videometa.security.model.TokenData;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,7 @@ public class IdentityService {
 
   private final AuthenticationManager authenticationManager;
   private final JwtTokenProvider jwtTokenProvider;
+  private final UserTokenVersionService userTokenVersionService;
 
   public Authentication authenticate(final String username, final String password) {
     final var authObject = new UsernamePasswordAuthenticationToken(username, password);
@@ -21,6 +25,12 @@ public class IdentityService {
   }
 
   public TokenData generateToken(final Authentication authentication) {
-    return jwtTokenProvider.generateToken(authentication);
+    if (!(authentication.getPrincipal() instanceof final CurrentUserDetails userDetails)) {
+      throw new IllegalArgumentException("Authentication principal must be a CurrentUserDetails");
+    }
+
+    final long tokenVersion = userTokenVersionService.findActiveTokenVersion(UUID.fromString(userDetails.getId()))
+        .orElseThrow(() -> new DisabledException("User is not active"));
+    return jwtTokenProvider.generateToken(authentication, tokenVersion);
   }
 }
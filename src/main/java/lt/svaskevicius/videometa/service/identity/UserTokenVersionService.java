@@ -0,0 +1,22 @@
+package lt.svaskevicius.videometa.service.identity;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UserTokenVersionService {
+
+  public static final String USER_TOKEN_VERSION_CACHE = "user_token_version";
+
+  private final UserRepository userRepository;
+
+  @Cacheable(value = USER_TOKEN_VERSION_CACHE, key = "#userId", unless = "#result == null")
+  public Optional<Long> findActiveTokenVersion(final UUID userId) {
+    return userRepository.findActiveTokenVersionById(userId);
+  }
+}
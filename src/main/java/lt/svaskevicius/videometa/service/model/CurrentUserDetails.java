@@ -30,6 +30,17 @@ public class CurrentUserDetails implements UserDetails {
         .collect(Collectors.toList());
   }
 
+  public CurrentUserDetails(final String id, final String username, final List<String> authorities) {
+    this.id = id;
+    this.username = username;
+    this.password = null;
+    this.active = true;
+
+    this.authorities = authorities.stream()
+        .map(SimpleGrantedAuthority::new)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return this.authorities;
@@ -0,0 +1,16 @@
+package lt.svaskevicius.videometa.service.model;
+
+import java.util.List;
+import java.util.UUID;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+
+public record VideoImportChunkMessage(
+    UUID traceId,
+    String feed,
+    long fencingToken,
+    int sequence,
+    int partition,
+    List<SourceVideoDto> videos
+) {
+
+}
@@ -0,0 +1,37 @@
+package lt.svaskevicius.videometa.service.model;
+
+import java.util.List;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+
+public record VideoImportReport(
+    boolean skipped,
+    long fetchedRows,
+    VideoUpsertResult result,
+    long fetchMillis,
+    long mapMillis,
+    long upsertMillis,
+    long durationMillis
+) {
+
+  public static VideoImportReport skipped(final long fetchMillis) {
+    return new VideoImportReport(true, 0, VideoUpsertResult.EMPTY, fetchMillis, 0, 0, fetchMillis);
+  }
+
+  public static VideoImportReport combine(final List<VideoImportReport> reports, final long durationMillis) {
+    boolean skipped = true;
+    long fetchedRows = 0;
+    VideoUpsertResult result = VideoUpsertResult.EMPTY;
+    long fetchMillis = 0;
+    long mapMillis = 0;
+    long upsertMillis = 0;
+    for (final VideoImportReport report : reports) {
+      skipped &= report.skipped();
+      fetchedRows += report.fetchedRows();
+      result = result.plus(report.result());
+      fetchMillis += report.fetchMillis();
+      mapMillis += report.mapMillis();
+      upsertMillis += report.upsertMillis();
+    }
+    return new VideoImportReport(skipped, fetchedRows, result, fetchMillis, mapMillis, upsertMillis, durationMillis);
+  }
+}
@@ -0,0 +1,24 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class VideoCatalogVersionService {
+
+  private static final String VERSION_KEY = "video:catalog:version";
+
+  private final StringRedisTemplate redisTemplate;
+
+  public long currentVersion() {
+    final String version = redisTemplate.opsForValue().get(VERSION_KEY);
+    return version == null ? 0 : Long.parseLong(version);
+  }
+
+  public long bump() {
+    return Objects.requireNonNull(redisTemplate.opsForValue().increment(VERSION_KEY));
+  }
+}
@@ -0,0 +1,29 @@
+package lt.svaskevicius.videometa.service.video;
+
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.model.Video;
+import lt.svaskevicius.videometa.dal.repository.VideoCountRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoRepository;
+import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class VideoCountService {
+
+  public static final String VIDEO_COUNT_CACHE = "video_count";
+
+  private final VideoRepository videoRepository;
+  private final VideoCountRepository videoCountRepository;
+
+  @Cacheable(value = VIDEO_COUNT_CACHE, key = "#filter")
+  public long getCachedCount(final VideoFilterDto filter, final Specification<Video> specification) {
+    return videoRepository.count(specification);
+  }
+
+  public long getEstimatedCount(final VideoFilterDto filter) {
+    return videoCountRepository.estimateCount(filter);
+  }
+}
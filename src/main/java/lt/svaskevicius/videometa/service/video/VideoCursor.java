@@ -0,0 +1,52 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+public record VideoCursor(VideoSortKey sortKey, Direction direction, Comparable<?> value, UUID id) {
+
+  private static final String SEPARATOR = "|";
+  private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(SEPARATOR));
+
+  public static VideoCursor first(final VideoSortKey sortKey, final Direction direction) {
+    return new VideoCursor(sortKey, direction, null, null);
+  }
+
+  public static VideoCursor decode(final String token) {
+    try {
+      final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      final String[] parts = SEPARATOR_PATTERN.split(decoded, 4);
+      final VideoSortKey sortKey = VideoSortKey.valueOf(parts[0]);
+      return new VideoCursor(sortKey, Direction.valueOf(parts[1]),
+          parts.length == 4 ? sortKey.parse(parts[3]) : null, UUID.fromString(parts[2]));
+    } catch (final RuntimeException e) {
+      throw new VideoMetaException(VideoMetaErrorCode.INVALID_REQUEST, "Invalid cursor");
+    }
+  }
+
+  public boolean isFirst() {
+    return id == null;
+  }
+
+  public VideoCursor after(final VideoSummary video) {
+    return new VideoCursor(sortKey, direction, sortKey.valueOf(video), video.id());
+  }
+
+  public Sort sort() {
+    final Sort byId = Sort.by(direction, VideoSortKey.ID.getProperty());
+    return sortKey == VideoSortKey.ID ? byId : Sort.by(direction, sortKey.getProperty()).and(byId);
+  }
+
+  public String encode() {
+    final String token = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + id
+        + (value == null ? "" : SEPARATOR + value);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+  }
+}
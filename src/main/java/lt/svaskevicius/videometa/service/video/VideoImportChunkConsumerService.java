@@ -0,0 +1,20 @@
+package lt.svaskevicius.videometa.service.video;
+
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import lt.svaskevicius.videometa.service.model.VideoImportChunkMessage;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class VideoImportChunkConsumerService {
+
+  private final VideoImportService videoImportService;
+
+  @RabbitListener(queues = RabbitMqConfig.VIDEO_IMPORT_CHUNK_QUEUE,
+      containerFactory = RabbitMqConfig.VIDEO_IMPORT_CHUNK_CONTAINER_FACTORY)
+  public void consume(final VideoImportChunkMessage chunk) {
+    videoImportService.importChunk(chunk);
+  }
+}
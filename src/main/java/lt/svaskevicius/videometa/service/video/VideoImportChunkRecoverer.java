@@ -0,0 +1,34 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoImportChunkRecoverer implements MessageRecoverer {
+
+  private final VideoImportJobService videoImportJobService;
+
+  @Override
+  public void recover(final Message message, final Throwable cause) {
+    final String correlationId = message.getMessageProperties().getCorrelationId();
+    final String feed = message.getMessageProperties().getHeader(RabbitMqConfig.VIDEO_IMPORT_FEED_HEADER);
+    final Number fencingToken = message.getMessageProperties()
+        .getHeader(RabbitMqConfig.VIDEO_IMPORT_FENCING_TOKEN_HEADER);
+    final Number sequence = message.getMessageProperties().getHeader(RabbitMqConfig.VIDEO_IMPORT_SEQUENCE_HEADER);
+    if (correlationId == null || feed == null || fencingToken == null || sequence == null) {
+      log.error("Dropping video import chunk without traceId, feed, fencing token or sequence", cause);
+      return;
+    }
+
+    final UUID traceId = UUID.fromString(correlationId);
+    log.error("Video import chunk {} of feed {} failed after retries, traceId: {}", sequence, feed, traceId, cause);
+    videoImportJobService.failChunk(traceId, feed, fencingToken.longValue(), sequence.intValue(), cause);
+  }
+}
@@ -1,21 +1,56 @@
 package lt.svaskevicius.videometa.service.video;
 
+import java.util.Optional;
 import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
 import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import lt.svaskevicius.videometa.service.video.VideoImportCoordinator.ImportLease;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class VideoImportConsumerService {
 
-  private final VideoService videoService;
+  private final VideoImportService videoImportService;
+  private final VideoImportCoordinator videoImportCoordinator;
+  private final VideoImportJobService videoImportJobService;
+  private final VideoSearchService videoSearchService;
+  private final VideoImportProducerService videoImportProducerService;
 
-  public VideoImportConsumerService(final VideoService videoService) {
-    this.videoService = videoService;
+  public VideoImportConsumerService(final VideoImportService videoImportService,
+      final VideoImportCoordinator videoImportCoordinator, final VideoImportJobService videoImportJobService,
+      final VideoSearchService videoSearchService, final VideoImportProducerService videoImportProducerService) {
+    this.videoImportService = videoImportService;
+    this.videoImportCoordinator = videoImportCoordinator;
+    this.videoImportJobService = videoImportJobService;
+    this.videoSearchService = videoSearchService;
+    this.videoImportProducerService = videoImportProducerService;
   }
 
-  @RabbitListener(queues = RabbitMqConfig.VIDEO_IMPORT_QUEUE)
+  @RabbitListener(queues = RabbitMqConfig.VIDEO_IMPORT_QUEUE,
+      containerFactory = RabbitMqConfig.VIDEO_IMPORT_CONTAINER_FACTORY)
   public void consume(final UUID traceId) {
-    videoService.importVideoFromSource(traceId);
+    final Optional<ImportLease> lease = videoImportCoordinator.acquireLease(traceId);
+    if (lease.isEmpty()) {
+      log.info("Video import lease is held by another node, retrying after lease TTL, traceId: {}", traceId);
+      videoImportProducerService.sendToRetryQueue(traceId);
+      return;
+    }
+
+    try (ImportLease heldLease = lease.get()) {
+      if (videoImportJobService.isProcessed(traceId)) {
+        log.info("Video import already processed, acknowledging duplicate delivery, traceId: {}", traceId);
+        return;
+      }
+      videoImportJobService.markRunning(traceId);
+      final VideoImportReport report = videoImportService.importVideoFromSource(traceId, heldLease.fencingToken());
+      videoImportJobService.markFinished(traceId, report);
+      videoSearchService.requestSync();
+    } catch (final RuntimeException e) {
+      videoImportJobService.markFailed(traceId, e);
+      throw e;
+    }
   }
 }
@@ -0,0 +1,138 @@
+package lt.svaskevicius.videometa.service.video;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.VideoImportLeaseProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class VideoImportCoordinator {
+
+  private static final String JOB_KEY = "video:import:job";
+  private static final String LEASE_KEY = "video:import:lease";
+  private static final String FENCE_KEY = "video:import:fence";
+
+  private static final RedisScript<String> CLAIM_JOB = new DefaultRedisScript<>("""
+      local current = redis.call('GET', KEYS[1])
+      if current then
+        return current
+      end
+      redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+      return ARGV[1]
+      """, String.class);
+  private static final RedisScript<Long> RELEASE_JOB = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+  private static final RedisScript<Long> ACQUIRE_LEASE = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return false
+      end
+      local token = redis.call('INCR', KEYS[2])
+      redis.call('SET', KEYS[1], token, 'PX', ARGV[1])
+      redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3])
+      return token
+      """, Long.class);
+  private static final RedisScript<Long> RENEW_LEASE = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+        return 0
+      end
+      redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      redis.call('PEXPIRE', KEYS[2], ARGV[3])
+      return 1
+      """, Long.class);
+  private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        redis.call('DEL', KEYS[1])
+      end
+      if redis.call('GET', KEYS[2]) == ARGV[2] then
+        redis.call('DEL', KEYS[2])
+      end
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final VideoImportLeaseProperties leaseProperties;
+  private final ScheduledExecutorService renewals =
+      Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("video-import-lease").factory());
+
+  public VideoImportCoordinator(final StringRedisTemplate redisTemplate,
+      final VideoImportLeaseProperties leaseProperties) {
+    this.redisTemplate = redisTemplate;
+    this.leaseProperties = leaseProperties;
+  }
+
+  public UUID claimJob(final UUID candidateTraceId) {
+    final String traceId = redisTemplate.execute(CLAIM_JOB, List.of(JOB_KEY), candidateTraceId.toString(),
+        String.valueOf(leaseProperties.jobTtl().toMillis()));
+    return UUID.fromString(traceId);
+  }
+
+  public void releaseJob(final UUID traceId) {
+    redisTemplate.execute(RELEASE_JOB, List.of(JOB_KEY), traceId.toString());
+  }
+
+  public Optional<ImportLease> acquireLease(final UUID traceId) {
+    final Long fencingToken = redisTemplate.execute(ACQUIRE_LEASE, List.of(LEASE_KEY, FENCE_KEY, JOB_KEY),
+        String.valueOf(leaseProperties.ttl().toMillis()), traceId.toString(),
+        String.valueOf(leaseProperties.jobTtl().toMillis()));
+    return Optional.ofNullable(fencingToken).map(token -> new ImportLease(traceId, token));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewals.shutdownNow();
+  }
+
+  public final class ImportLease implements AutoCloseable {
+
+    private final UUID traceId;
+    private final long fencingToken;
+    private final ScheduledFuture<?> renewal;
+
+    private ImportLease(final UUID traceId, final long fencingToken) {
+      this.traceId = traceId;
+      this.fencingToken = fencingToken;
+      final long period = leaseProperties.ttl().toMillis() / 3;
+      this.renewal = renewals.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public long fencingToken() {
+      return fencingToken;
+    }
+
+    private void renew() {
+      try {
+        final Long renewed = redisTemplate.execute(RENEW_LEASE, List.of(LEASE_KEY, JOB_KEY),
+            String.valueOf(fencingToken), String.valueOf(leaseProperties.ttl().toMillis()),
+            String.valueOf(leaseProperties.jobTtl().toMillis()));
+        if (!Long.valueOf(1).equals(renewed)) {
+          log.warn("Lost video import lease with fencing token {}, traceId: {}", fencingToken, traceId);
+          renewal.cancel(false);
+        }
+      } catch (final RuntimeException e) {
+        log.warn("Failed to renew video import lease with fencing token {}, traceId: {}", fencingToken, traceId, e);
+      }
+    }
+
+    @Override
+    public void close() {
+      renewal.cancel(false);
+      redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY, JOB_KEY), String.valueOf(fencingToken),
+          traceId.toString());
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.VideoImportPartitionProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties.ImportMode;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress.Key;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob.State;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.dal.repository.VideoImportChunkProgressRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoImportJobRepository;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoImportJobService {
+
+  private static final Set<State> PROCESSED_STATES = Set.of(State.SUCCEEDED, State.SKIPPED);
+
+  private final VideoImportJobRepository videoImportJobRepository;
+  private final VideoImportChunkProgressRepository videoImportChunkProgressRepository;
+  private final VideoImportPartitionProperties videoImportPartitionProperties;
+
+  public VideoImportJob createQueued(final UUID traceId, final UUID initiatorUserId) {
+    final VideoImportJob job = new VideoImportJob(traceId);
+    job.setInitiatorUserId(initiatorUserId);
+    job.setState(State.QUEUED);
+    return videoImportJobRepository.save(job);
+  }
+
+  public void markRunning(final UUID traceId) {
+    final VideoImportJob job = findOrCreate(traceId);
+    job.setState(State.RUNNING);
+    job.setError(null);
+    job.setStartedAt(LocalDateTime.now());
+    job.setFinishedAt(null);
+    videoImportJobRepository.save(job);
+  }
+
+  public boolean isProcessed(final UUID traceId) {
+    return videoImportJobRepository.existsByTraceIdAndStateIn(traceId, PROCESSED_STATES);
+  }
+
+  public Optional<VideoImportChunkProgress> findCheckpoint(final UUID traceId, final String feed,
+      final ImportMode mode, final String etag) {
+    if (etag == null) {
+      return Optional.empty();
+    }
+    return videoImportChunkProgressRepository.findById(new Key(traceId, feed))
+        .filter(progress -> progress.getMode() == mode)
+        .filter(progress -> etag.equals(progress.getEtag()))
+        .filter(progress -> progress.getFailedChunks() == 0);
+  }
+
+  public VideoImportChunkProgress startCheckpoint(final UUID traceId, final String feed, final long fencingToken,
+      final ImportMode mode, final String etag) {
+    videoImportChunkProgressRepository.startProgress(traceId, feed, fencingToken, mode.name(), etag);
+    final VideoImportChunkProgress progress = new VideoImportChunkProgress(new Key(traceId, feed));
+    progress.setFencingToken(fencingToken);
+    progress.setMode(mode);
+    progress.setEtag(etag);
+    return progress;
+  }
+
+  public void saveCheckpoint(final UUID traceId, final String feed, final long committedRows,
+      final int committedChunks, final VideoUpsertResult result) {
+    videoImportChunkProgressRepository.saveCheckpoint(traceId, feed, committedRows, committedChunks,
+        result.inserted(), result.updated(), result.unchanged());
+  }
+
+  public boolean claimChunk(final UUID traceId, final String feed, final long fencingToken, final int sequence) {
+    return videoImportChunkProgressRepository.claimChunk(traceId, feed, fencingToken, sequence) > 0;
+  }
+
+  public void completeChunk(final UUID traceId, final String feed, final long fencingToken,
+      final VideoUpsertResult result) {
+    videoImportChunkProgressRepository.completeChunk(traceId, feed, fencingToken, result.inserted(),
+        result.updated(), result.unchanged());
+  }
+
+  public void failChunk(final UUID traceId, final String feed, final long fencingToken, final int sequence,
+      final Throwable cause) {
+    videoImportChunkProgressRepository.failChunk(traceId, feed, fencingToken, sequence,
+        Objects.toString(cause.getMessage(), cause.toString()));
+  }
+
+  public VideoImportChunkProgress awaitChunks(final UUID traceId, final String feed, final long fencingToken,
+      final int totalChunks, final long publishedRows) {
+    videoImportChunkProgressRepository.armChunkBarrier(traceId, feed, totalChunks, publishedRows);
+
+    final Key key = new Key(traceId, feed);
+    final long deadline = System.nanoTime() + videoImportPartitionProperties.barrierTimeout().toNanos();
+    while (true) {
+      final VideoImportChunkProgress progress = videoImportChunkProgressRepository.findById(key)
+          .orElseGet(() -> new VideoImportChunkProgress(key));
+      if (progress.getFencingToken() != null && progress.getFencingToken() != fencingToken) {
+        throw new IllegalStateException("Video import chunks of feed " + feed + " were republished with fencing token "
+            + progress.getFencingToken());
+      }
+      final int doneChunks = progress.getCompletedChunks() + progress.getFailedChunks();
+      if (doneChunks >= totalChunks) {
+        return progress;
+      }
+      if (System.nanoTime() - deadline > 0) {
+        throw new IllegalStateException("Timed out waiting for " + (totalChunks - doneChunks) + " of "
+            + totalChunks + " video import chunks of feed " + feed);
+      }
+      try {
+        Thread.sleep(videoImportPartitionProperties.pollInterval());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for video import chunks", e);
+      }
+    }
+  }
+
+  public void markFinished(final UUID traceId, final VideoImportReport report) {
+    final VideoImportJob job = findOrCreate(traceId);
+    job.setState(report.skipped() ? State.SKIPPED : State.SUCCEEDED);
+    job.setFetchedRows(report.fetchedRows());
+    job.setInserted(report.result().inserted());
+    job.setUpdated(report.result().updated());
+    job.setUnchanged(report.result().unchanged());
+    job.setFetchMillis(report.fetchMillis());
+    job.setMapMillis(report.mapMillis());
+    job.setUpsertMillis(report.upsertMillis());
+    job.setDurationMillis(report.durationMillis());
+    job.setRowsPerSecond(rowsPerSecond(report.fetchedRows(), report.durationMillis()));
+    job.setFinishedAt(LocalDateTime.now());
+    videoImportJobRepository.save(job);
+  }
+
+  public void markFailed(final UUID traceId, final Exception exception) {
+    final VideoImportJob job = findOrCreate(traceId);
+    job.setState(State.FAILED);
+    job.setError(exception.getMessage());
+    job.setFinishedAt(LocalDateTime.now());
+    videoImportJobRepository.save(job);
+  }
+
+  public VideoImportJob getJob(final UUID traceId) {
+    return videoImportJobRepository.findById(traceId)
+        .orElseThrow(() -> {
+          log.warn("Could not find video import job with traceId: {}", traceId);
+          return new VideoMetaException(VideoMetaErrorCode.NOT_FOUND, "Video import job not found");
+        });
+  }
+
+  private VideoImportJob findOrCreate(final UUID traceId) {
+    return videoImportJobRepository.findById(traceId).orElseGet(() -> new VideoImportJob(traceId));
+  }
+
+  private static double rowsPerSecond(final long rows, final long millis) {
+    return millis > 0 ? rows * 1000.0 / millis : 0;
+  }
+}
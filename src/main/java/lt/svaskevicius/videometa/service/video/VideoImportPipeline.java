@@ -0,0 +1,182 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.VideoImportPipelineProperties;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+
+@Slf4j
+final class VideoImportPipeline implements Consumer<List<SourceVideoDto>>, AutoCloseable {
+
+  static final String WRITE_STAGE = "write";
+
+  private static final Object END_OF_FEED = new Object();
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  private final String feed;
+  private final VideoImportPipelineMetrics metrics;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final Function<List<SourceVideoDto>, VideoUpsertResult> writer;
+  private final CommitListener commitListener;
+  private final int capacity;
+  private final int workers;
+  private final BlockingQueue<Object> queue;
+  private final List<Future<?>> running = new ArrayList<>();
+  private final LongAdder writeNanos = new LongAdder();
+  private final AtomicInteger peak = new AtomicInteger();
+  private final long startedAt = System.nanoTime();
+  private VideoUpsertResult result = VideoUpsertResult.EMPTY;
+  private long nextSequence;
+  private long fetchNanos;
+  private long blockedNanos;
+  private boolean finished;
+
+  VideoImportPipeline(final String feed, final VideoImportPipelineProperties properties,
+      final VideoImportPipelineMetrics metrics, final Function<List<SourceVideoDto>, VideoUpsertResult> writer,
+      final CommitListener commitListener) {
+    this.feed = feed;
+    this.metrics = metrics;
+    this.writer = writer;
+    this.commitListener = commitListener;
+    this.capacity = properties.writeQueueCapacity();
+    this.workers = properties.writeWorkers();
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    metrics.bind(feed, WRITE_STAGE, queue);
+    for (int worker = 0; worker < workers; worker++) {
+      running.add(executor.submit(this::write));
+    }
+  }
+
+  @Override
+  public void accept(final List<SourceVideoDto> chunk) {
+    final long started = System.nanoTime();
+    put(new Batch(nextSequence++, chunk));
+    blockedNanos += System.nanoTime() - started;
+  }
+
+  VideoUpsertResult finish() {
+    fetchNanos = System.nanoTime() - startedAt - blockedNanos;
+    finished = true;
+    drain();
+    log.info("Video import pipeline of {} drained, write queue peak {}/{}, fetch blocked {} ms", feed, peak.get(),
+        capacity, TimeUnit.NANOSECONDS.toMillis(blockedNanos));
+
+    if (failure.get() != null) {
+      throw failure();
+    }
+    return result;
+  }
+
+  long fetchMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(fetchNanos);
+  }
+
+  long writeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(writeNanos.sum());
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (!finished) {
+        failure.compareAndSet(null, new CancellationException("Video import pipeline of " + feed + " aborted"));
+        drain();
+      }
+    } finally {
+      executor.close();
+      metrics.unbind(feed, WRITE_STAGE);
+    }
+  }
+
+  private void put(final Batch batch) {
+    try {
+      while (failure.get() == null) {
+        if (queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          peak.accumulateAndGet(queue.size(), Math::max);
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while queueing video import write stage", e);
+    }
+    throw failure();
+  }
+
+  private void drain() {
+    try {
+      for (int worker = 0; worker < workers; worker++) {
+        queue.put(END_OF_FEED);
+      }
+      for (final Future<?> worker : running) {
+        worker.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while draining video import write stage", e);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Video import write stage worker failed", e.getCause());
+    }
+  }
+
+  private Void write() throws InterruptedException {
+    while (true) {
+      final Object item = queue.take();
+      if (item == END_OF_FEED) {
+        return null;
+      }
+      if (failure.get() != null) {
+        continue;
+      }
+      try {
+        final Batch batch = (Batch) item;
+        final long started = System.nanoTime();
+        final VideoUpsertResult committed = writer.apply(batch.videos());
+        writeNanos.add(System.nanoTime() - started);
+        collect(batch, committed);
+      } catch (final Throwable e) {
+        failure.compareAndSet(null, e);
+      }
+    }
+  }
+
+  private RuntimeException failure() {
+    final Throwable cause = failure.get();
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new IllegalStateException("Video import pipeline of " + feed + " failed", cause);
+  }
+
+  private void collect(final Batch batch, final VideoUpsertResult committed) {
+    synchronized (this) {
+      result = result.plus(committed);
+    }
+    commitListener.committed(batch.sequence(), batch.videos().size(), committed);
+  }
+
+  interface CommitListener {
+
+    void committed(long sequence, int rows, VideoUpsertResult result);
+  }
+
+  private record Batch(long sequence, List<SourceVideoDto> videos) {
+
+  }
+}
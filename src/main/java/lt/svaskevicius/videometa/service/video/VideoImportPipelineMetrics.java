@@ -0,0 +1,52 @@
+package lt.svaskevicius.videometa.service.video;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class VideoImportPipelineMetrics {
+
+  static final String QUEUE_SIZE = "video.import.pipeline.queue.size";
+  static final String QUEUE_CAPACITY = "video.import.pipeline.queue.capacity";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<StageKey, AtomicReference<BlockingQueue<?>>> queues = new ConcurrentHashMap<>();
+
+  void bind(final String feed, final String stage, final BlockingQueue<?> queue) {
+    queues.computeIfAbsent(new StageKey(feed, stage), this::register).set(queue);
+  }
+
+  void unbind(final String feed, final String stage) {
+    final AtomicReference<BlockingQueue<?>> queue = queues.get(new StageKey(feed, stage));
+    if (queue != null) {
+      queue.set(null);
+    }
+  }
+
+  private AtomicReference<BlockingQueue<?>> register(final StageKey key) {
+    final AtomicReference<BlockingQueue<?>> queue = new AtomicReference<>();
+    Gauge.builder(QUEUE_SIZE, queue, ref -> ref.get() != null ? ref.get().size() : 0)
+        .description("Chunks waiting in front of a video import pipeline stage")
+        .tag("feed", key.feed())
+        .tag("stage", key.stage())
+        .register(meterRegistry);
+    Gauge.builder(QUEUE_CAPACITY, queue, ref -> ref.get() != null
+            ? ref.get().size() + ref.get().remainingCapacity()
+            : 0)
+        .description("Capacity of the queue in front of a video import pipeline stage")
+        .tag("feed", key.feed())
+        .tag("stage", key.stage())
+        .register(meterRegistry);
+    return queue;
+  }
+
+  private record StageKey(String feed, String stage) {
+  }
+}
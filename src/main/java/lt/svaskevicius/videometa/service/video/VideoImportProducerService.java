@@ -2,6 +2,7 @@ package lt.svaskevicius.videometa.service.video;
 
 import java.util.UUID;
 import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import lt.svaskevicius.videometa.service.model.VideoImportChunkMessage;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
@@ -20,4 +21,26 @@ public class VideoImportProducerService {
         traceId
     );
   }
+
+  public void sendToRetryQueue(final UUID traceId) {
+    rabbitTemplate.convertAndSend(
+        RabbitMqConfig.VIDEO_IMPORT_RETRY_QUEUE,
+        traceId
+    );
+  }
+
+  public void sendChunk(final VideoImportChunkMessage chunk) {
+    rabbitTemplate.convertAndSend(
+        RabbitMqConfig.VIDEO_IMPORT_CHUNK_QUEUE,
+        chunk,
+        message -> {
+          message.getMessageProperties().setCorrelationId(chunk.traceId().toString());
+          message.getMessageProperties().setHeader(RabbitMqConfig.VIDEO_IMPORT_FEED_HEADER, chunk.feed());
+          message.getMessageProperties()
+              .setHeader(RabbitMqConfig.VIDEO_IMPORT_FENCING_TOKEN_HEADER, chunk.fencingToken());
+          message.getMessageProperties().setHeader(RabbitMqConfig.VIDEO_IMPORT_SEQUENCE_HEADER, chunk.sequence());
+          return message;
+        }
+    );
+  }
 }
@@ -0,0 +1,467 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.VideoImportPartitionProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportPipelineProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties.ImportMode;
+import lt.svaskevicius.videometa.dal.model.VideoFeedState;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.dal.repository.VideoBulkLoadRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoBulkLoadRepository.StagingLoad;
+import lt.svaskevicius.videometa.dal.repository.VideoFeedStateRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoUpsertRepository;
+import lt.svaskevicius.videometa.integration.source.VideoSourceConnector;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import lt.svaskevicius.videometa.service.model.VideoImportChunkMessage;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoImportService {
+
+  private static final String WEAK_ETAG_PREFIX = "W/";
+
+  private final List<VideoSourceConnector> videoSourceConnectors;
+  private final VideoUpsertRepository videoUpsertRepository;
+  private final VideoBulkLoadRepository videoBulkLoadRepository;
+  private final VideoFeedStateRepository videoFeedStateRepository;
+  private final VideoImportProducerService videoImportProducerService;
+  private final VideoImportJobService videoImportJobService;
+  private final TransactionTemplate transactionTemplate;
+  private final VideoImportProperties videoImportProperties;
+  private final VideoImportPartitionProperties videoImportPartitionProperties;
+  private final VideoImportPipelineProperties videoImportPipelineProperties;
+  private final VideoImportPipelineMetrics videoImportPipelineMetrics;
+  private final VideoCatalogVersionService videoCatalogVersionService;
+
+  @CacheEvict(value = "video_statistics", allEntries = true)
+  public VideoImportReport importVideoFromSource(final UUID traceId, final long fencingToken) {
+    final long startedAt = System.nanoTime();
+    final List<VideoImportReport> reports = new ArrayList<>();
+    RuntimeException failure = null;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Future<VideoImportReport>> imports = videoSourceConnectors.stream()
+          .map(connector -> executor.submit(() -> connector.bulkhead()
+              .executeSupplier(() -> importFromConnector(connector, traceId, fencingToken))))
+          .toList();
+      for (final Future<VideoImportReport> sourceImport : imports) {
+        try {
+          reports.add(sourceImport.get());
+        } catch (final ExecutionException e) {
+          failure = withFailure(failure, e.getCause());
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while importing videos from sources", e);
+        }
+      }
+    }
+
+    if (failure != null) {
+      videoCatalogVersionService.bump();
+      throw failure;
+    }
+    final VideoImportReport report = VideoImportReport.combine(reports,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    if (report.result().hasChanges()) {
+      videoCatalogVersionService.bump();
+    }
+    return report;
+  }
+
+  public void importChunk(final VideoImportChunkMessage chunk) {
+    transactionTemplate.execute(status -> {
+      final Long currentToken = videoFeedStateRepository.findFencingTokenForShare(chunk.feed());
+      if (currentToken != null && currentToken > chunk.fencingToken()) {
+        log.info("Failing {} import chunk {} with stale fencing token {}, partition: {}, traceId: {}",
+            chunk.feed(), chunk.sequence(), chunk.fencingToken(), chunk.partition(), chunk.traceId());
+        videoImportJobService.failChunk(chunk.traceId(), chunk.feed(), chunk.fencingToken(), chunk.sequence(),
+            new IllegalStateException("Video import lease with fencing token " + chunk.fencingToken()
+                + " is stale"));
+        return null;
+      }
+      if (!videoImportJobService.claimChunk(chunk.traceId(), chunk.feed(), chunk.fencingToken(), chunk.sequence())) {
+        log.info("Skipping already completed {} import chunk {}, partition: {}, traceId: {}", chunk.feed(),
+            chunk.sequence(), chunk.partition(), chunk.traceId());
+        return null;
+      }
+
+      final VideoUpsertResult result = videoUpsertRepository.upsertSourceVideos(chunk.videos());
+      videoImportJobService.completeChunk(chunk.traceId(), chunk.feed(), chunk.fencingToken(), result);
+      return result;
+    });
+  }
+
+  private VideoImportReport importFromConnector(final VideoSourceConnector connector, final UUID traceId,
+      final long fencingToken) {
+    log.info("Importing videos from {} with {} fetch strategy, traceId: {}", connector.name(),
+        connector.fetchStrategy(), traceId);
+    final StageClock clock = new StageClock();
+    final VideoFeedState state = videoFeedStateRepository.findById(connector.name())
+        .orElseGet(() -> new VideoFeedState(connector.name()));
+
+    try (VideoSourceFeed feed = connector.fetchVideos(toConditions(state))) {
+      if (!feed.isModified()) {
+        log.info("Video source {} not modified, skipping import, traceId: {}", connector.name(), traceId);
+        return VideoImportReport.skipped(clock.elapsedMillis());
+      }
+
+      final ImportMode mode = videoImportProperties.mode();
+      final VideoImportReport report = switch (mode) {
+        case BATCH -> importInBatches(traceId, feed, state, fencingToken, clock);
+        case PARTITIONED -> importInPartitions(traceId, feed, state, fencingToken, clock);
+        default -> Objects.requireNonNull(transactionTemplate.execute(status ->
+            importInSingleTransaction(feed, state, fencingToken, mode, clock)));
+      };
+
+      final VideoUpsertResult result = report.result();
+      log.info("Imported {} videos from {} in {} mode ({} inserted, {} updated, {} unchanged) in {} ms "
+              + "(fetch {} ms, map {} ms, upsert {} ms), traceId: {}",
+          result.total(), connector.name(), mode, result.inserted(), result.updated(), result.unchanged(),
+          report.durationMillis(), report.fetchMillis(), report.mapMillis(), report.upsertMillis(), traceId);
+      return report;
+    }
+  }
+
+  private RuntimeException withFailure(final RuntimeException failure, final Throwable cause) {
+    final RuntimeException sourceFailure = cause instanceof RuntimeException runtimeException
+        ? runtimeException
+        : new IllegalStateException("Failed to import videos from source", cause);
+    if (failure == null) {
+      return sourceFailure;
+    }
+    failure.addSuppressed(sourceFailure);
+    return failure;
+  }
+
+  private VideoImportReport importInBatches(final UUID traceId, final VideoSourceFeed feed,
+      final VideoFeedState state, final long fencingToken, final StageClock clock) {
+    final VideoImportChunkProgress checkpoint = videoImportJobService
+        .findCheckpoint(traceId, state.getFeed(), ImportMode.BATCH, resumableEtag(feed))
+        .map(progress -> {
+          log.info("Resuming {} import from checkpoint after {} committed videos, traceId: {}", state.getFeed(),
+              progress.getCommittedRows(), traceId);
+          return progress;
+        })
+        .orElseGet(() -> videoImportJobService.startCheckpoint(traceId, state.getFeed(), fencingToken,
+            ImportMode.BATCH, resumableEtag(feed)));
+    final VideoUpsertResult resumedResult = new VideoUpsertResult(checkpoint.getInserted(), checkpoint.getUpdated(),
+        checkpoint.getUnchanged());
+    transactionTemplate.execute(status -> {
+      advanceFencingToken(state.getFeed(), fencingToken);
+      return null;
+    });
+
+    try (VideoImportPipeline pipeline = new VideoImportPipeline(state.getFeed(), videoImportPipelineProperties,
+        videoImportPipelineMetrics, chunk -> upsertFencedChunk(state.getFeed(), fencingToken, chunk),
+        new Checkpointer(traceId, checkpoint))) {
+      final long fetchedRows = feed.streamVideos(videoImportProperties.chunkSize(),
+          new CheckpointSkipper(checkpoint.getCommittedRows(), pipeline));
+      final VideoUpsertResult result = resumedResult.plus(pipeline.finish());
+      final VideoImportReport report = new VideoImportReport(false, fetchedRows, result, pipeline.fetchMillis(),
+          0, pipeline.writeMillis(), clock.elapsedMillis());
+      saveState(state, feed, fencingToken);
+      return report;
+    }
+  }
+
+  private VideoUpsertResult upsertFencedChunk(final String feed, final long fencingToken,
+      final List<SourceVideoDto> chunk) {
+    return transactionTemplate.execute(status -> {
+      final Long currentToken = videoFeedStateRepository.findFencingTokenForShare(feed);
+      if (currentToken != null && currentToken > fencingToken) {
+        throw new IllegalStateException("Video import lease with fencing token " + fencingToken + " is stale");
+      }
+      return videoUpsertRepository.upsertSourceVideos(chunk);
+    });
+  }
+
+  private VideoImportReport importInSingleTransaction(final VideoSourceFeed feed, final VideoFeedState state,
+      final long fencingToken, final ImportMode mode, final StageClock clock) {
+    advanceFencingToken(state.getFeed(), fencingToken);
+    final int bulkThreshold = mode == ImportMode.BULK ? 0 : videoImportProperties.bulkThreshold();
+    final StagingWriter stagingWriter = new StagingWriter(bulkThreshold, clock);
+    final long fetchedRows = feed.streamVideos(videoImportProperties.chunkSize(), stagingWriter);
+    final VideoImportReport report = clock.report(fetchedRows, clock.upsert(stagingWriter::finish));
+    saveState(state, feed, fencingToken);
+    return report;
+  }
+
+  private VideoImportReport importInPartitions(final UUID traceId, final VideoSourceFeed feed,
+      final VideoFeedState state, final long fencingToken, final StageClock clock) {
+    final Optional<VideoImportChunkProgress> checkpoint = videoImportJobService
+        .findCheckpoint(traceId, state.getFeed(), ImportMode.PARTITIONED, resumableEtag(feed))
+        .filter(progress -> progress.getTotalChunks() != null);
+    final long fetchedRows;
+    final int totalChunks;
+    final long chunkFencingToken;
+    if (checkpoint.isPresent()) {
+      fetchedRows = checkpoint.get().getCommittedRows();
+      totalChunks = checkpoint.get().getTotalChunks();
+      chunkFencingToken = Objects.requireNonNullElse(checkpoint.get().getFencingToken(), fencingToken);
+      log.info("Resuming {} import with all {} chunks already published, traceId: {}", state.getFeed(),
+          totalChunks, traceId);
+    } else {
+      transactionTemplate.execute(status -> {
+        advanceFencingToken(state.getFeed(), fencingToken);
+        return null;
+      });
+      videoImportJobService.startCheckpoint(traceId, state.getFeed(), fencingToken, ImportMode.PARTITIONED,
+          resumableEtag(feed));
+
+      final ChunkPublisher chunkPublisher = new ChunkPublisher(traceId, state.getFeed(), fencingToken);
+      fetchedRows = feed.streamVideos(videoImportProperties.chunkSize(), chunkPublisher);
+      totalChunks = chunkPublisher.finish();
+      chunkFencingToken = fencingToken;
+    }
+    final long fetchMillis = clock.elapsedMillis();
+
+    final VideoImportChunkProgress progress = videoImportJobService.awaitChunks(traceId, state.getFeed(),
+        chunkFencingToken, totalChunks, fetchedRows);
+    if (progress.getFailedChunks() > 0) {
+      throw new IllegalStateException(progress.getFailedChunks() + " of " + totalChunks + " " + state.getFeed()
+          + " import chunks failed: " + progress.getError());
+    }
+
+    final VideoUpsertResult result = new VideoUpsertResult(progress.getInserted(), progress.getUpdated(),
+        progress.getUnchanged());
+    final long durationMillis = clock.elapsedMillis();
+    final VideoImportReport report = new VideoImportReport(false, fetchedRows, result, fetchMillis, 0,
+        durationMillis - fetchMillis, durationMillis);
+    saveState(state, feed, fencingToken);
+    return report;
+  }
+
+  private SourceFeedConditions toConditions(final VideoFeedState state) {
+    return new SourceFeedConditions(state.getEtag(), state.getLastModified(), state.getCursor());
+  }
+
+  private static String resumableEtag(final VideoSourceFeed feed) {
+    final String etag = feed.conditions().etag();
+    return etag != null && !etag.startsWith(WEAK_ETAG_PREFIX) ? etag : null;
+  }
+
+  private void saveState(final VideoFeedState state, final VideoSourceFeed feed, final long fencingToken) {
+    if (feed.fingerprint() != null && feed.fingerprint().equals(state.getFingerprint())
+        && feed.conditions().equals(toConditions(state))) {
+      log.info("Video source {} fingerprint unchanged, keeping its feed state", state.getFeed());
+      return;
+    }
+    transactionTemplate.execute(status -> {
+      advanceFencingToken(state.getFeed(), fencingToken);
+      state.setEtag(feed.conditions().etag());
+      state.setLastModified(feed.conditions().lastModified());
+      state.setCursor(feed.conditions().cursor());
+      state.setFingerprint(feed.fingerprint());
+      state.setFencingToken(fencingToken);
+      return videoFeedStateRepository.save(state);
+    });
+  }
+
+  private void advanceFencingToken(final String feed, final long fencingToken) {
+    if (videoFeedStateRepository.advanceFencingToken(feed, fencingToken) == 0) {
+      throw new IllegalStateException("Video import lease with fencing token " + fencingToken + " is stale");
+    }
+  }
+
+  private final class Checkpointer implements VideoImportPipeline.CommitListener {
+
+    private final UUID traceId;
+    private final String feed;
+    private final Map<Long, CommittedChunk> pending = new HashMap<>();
+    private long committedRows;
+    private int committedChunks;
+    private VideoUpsertResult result;
+    private long nextSequence;
+
+    private Checkpointer(final UUID traceId, final VideoImportChunkProgress checkpoint) {
+      this.traceId = traceId;
+      this.feed = checkpoint.getId().feed();
+      this.committedRows = checkpoint.getCommittedRows();
+      this.committedChunks = checkpoint.getCompletedChunks();
+      this.result = new VideoUpsertResult(checkpoint.getInserted(), checkpoint.getUpdated(),
+          checkpoint.getUnchanged());
+    }
+
+    @Override
+    public synchronized void committed(final long sequence, final int rows, final VideoUpsertResult chunkResult) {
+      pending.put(sequence, new CommittedChunk(rows, chunkResult));
+      CommittedChunk next = pending.remove(nextSequence);
+      if (next == null) {
+        return;
+      }
+      while (next != null) {
+        committedRows += next.rows();
+        committedChunks++;
+        result = result.plus(next.result());
+        next = pending.remove(++nextSequence);
+      }
+      videoImportJobService.saveCheckpoint(traceId, feed, committedRows, committedChunks, result);
+    }
+  }
+
+  private record CommittedChunk(int rows, VideoUpsertResult result) {
+
+  }
+
+  private static final class CheckpointSkipper implements Consumer<List<SourceVideoDto>> {
+
+    private final Consumer<List<SourceVideoDto>> downstream;
+    private long remaining;
+
+    private CheckpointSkipper(final long committedRows, final Consumer<List<SourceVideoDto>> downstream) {
+      this.remaining = committedRows;
+      this.downstream = downstream;
+    }
+
+    @Override
+    public void accept(final List<SourceVideoDto> chunk) {
+      if (remaining >= chunk.size()) {
+        remaining -= chunk.size();
+        return;
+      }
+      final int from = (int) remaining;
+      remaining = 0;
+      downstream.accept(from == 0 ? chunk : chunk.subList(from, chunk.size()));
+    }
+  }
+
+  private final class ChunkPublisher implements Consumer<List<SourceVideoDto>> {
+
+    private final UUID traceId;
+    private final String feed;
+    private final long fencingToken;
+    private final List<List<SourceVideoDto>> partitions;
+    private int published;
+
+    private ChunkPublisher(final UUID traceId, final String feed, final long fencingToken) {
+      this.traceId = traceId;
+      this.feed = feed;
+      this.fencingToken = fencingToken;
+      this.partitions = new ArrayList<>();
+      for (int partition = 0; partition < videoImportPartitionProperties.partitions(); partition++) {
+        partitions.add(new ArrayList<>());
+      }
+    }
+
+    @Override
+    public void accept(final List<SourceVideoDto> chunk) {
+      for (final SourceVideoDto video : chunk) {
+        final int partition = Math.floorMod(Objects.hashCode(video.url()), partitions.size());
+        partitions.get(partition).add(video);
+        if (partitions.get(partition).size() >= videoImportProperties.chunkSize()) {
+          publish(partition);
+        }
+      }
+    }
+
+    private int finish() {
+      for (int partition = 0; partition < partitions.size(); partition++) {
+        if (!partitions.get(partition).isEmpty()) {
+          publish(partition);
+        }
+      }
+      return published;
+    }
+
+    private void publish(final int partition) {
+      final List<SourceVideoDto> videos = partitions.get(partition);
+      videoImportProducerService.sendChunk(
+          new VideoImportChunkMessage(traceId, feed, fencingToken, published, partition, List.copyOf(videos)));
+      videos.clear();
+      published++;
+    }
+  }
+
+  private final class StagingWriter implements Consumer<List<SourceVideoDto>> {
+
+    private final int bulkThreshold;
+    private final StageClock clock;
+    private List<SourceVideoDto> buffered = new ArrayList<>();
+    private StagingLoad stagingLoad;
+
+    private StagingWriter(final int bulkThreshold, final StageClock clock) {
+      this.bulkThreshold = bulkThreshold;
+      this.clock = clock;
+    }
+
+    @Override
+    public void accept(final List<SourceVideoDto> chunk) {
+      if (stagingLoad != null) {
+        clock.upsert(() -> stagingLoad.write(chunk));
+        return;
+      }
+
+      buffered.addAll(chunk);
+      if (buffered.size() >= bulkThreshold) {
+        clock.upsert(() -> {
+          stagingLoad = videoBulkLoadRepository.beginStagingLoad();
+          stagingLoad.write(buffered);
+        });
+        buffered = List.of();
+      }
+    }
+
+    private VideoUpsertResult finish() {
+      if (stagingLoad != null) {
+        return stagingLoad.merge();
+      }
+      return buffered.isEmpty() ? VideoUpsertResult.EMPTY : videoUpsertRepository.upsertSourceVideos(buffered);
+    }
+  }
+
+  private static final class StageClock {
+
+    private final long startedAt = System.nanoTime();
+    private long upsertNanos;
+
+    private <T> T upsert(final Supplier<T> stage) {
+      final long started = System.nanoTime();
+      try {
+        return stage.get();
+      } finally {
+        upsertNanos += System.nanoTime() - started;
+      }
+    }
+
+    private void upsert(final Runnable stage) {
+      upsert(() -> {
+        stage.run();
+        return null;
+      });
+    }
+
+    private long elapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private VideoImportReport report(final long fetchedRows, final VideoUpsertResult result) {
+      final long fetchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt - upsertNanos);
+      final long upsertMillis = TimeUnit.NANOSECONDS.toMillis(upsertNanos);
+      return new VideoImportReport(false, fetchedRows, result, fetchMillis, 0, upsertMillis,
+          fetchMillis + upsertMillis);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package lt.svaskevicius.videometa.service.video;
+
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.web.model.CountMode;
+import org.springframework.data.domain.Slice;
+
+public record VideoPage(Slice<VideoSummary> videos, Long totalElements, CountMode countMode, boolean truncated) {
+
+}
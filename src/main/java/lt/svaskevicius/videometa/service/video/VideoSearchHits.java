@@ -0,0 +1,9 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.util.List;
+import java.util.UUID;
+
+public record VideoSearchHits(List<UUID> ids, boolean truncated) {
+
+  public static final VideoSearchHits EMPTY = new VideoSearchHits(List.of(), false);
+}
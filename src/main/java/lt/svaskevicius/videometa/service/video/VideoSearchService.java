@@ -0,0 +1,197 @@
+package lt.svaskevicius.videometa.service.video;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.config.properties.VideoSearchProperties;
+import lt.svaskevicius.videometa.dal.model.VideoChange;
+import lt.svaskevicius.videometa.dal.repository.VideoChangeRepository;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoSearchService {
+
+  static final String FIELD_ID = "id";
+  static final String FIELD_TITLE = "title";
+  static final String FIELD_SOURCE = "source";
+  static final String SYNCED_TXID = "synced_txid";
+
+  private static final long NEVER_SYNCED = 0;
+
+  private final VideoChangeRepository videoChangeRepository;
+  private final VideoSearchProperties videoSearchProperties;
+  private final Analyzer analyzer = new StandardAnalyzer();
+  private final AtomicBoolean syncScheduled = new AtomicBoolean();
+  private Directory directory;
+  private IndexWriter indexWriter;
+  private SearcherManager searcherManager;
+  private long syncedTxid;
+
+  @PostConstruct
+  void open() throws IOException {
+    Files.createDirectories(videoSearchProperties.indexPath());
+    directory = FSDirectory.open(videoSearchProperties.indexPath());
+    indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(OpenMode.CREATE_OR_APPEND));
+    searcherManager = new SearcherManager(indexWriter, null);
+    syncedTxid = NEVER_SYNCED;
+    final Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+    if (commitData != null) {
+      for (final Map.Entry<String, String> entry : commitData) {
+        if (SYNCED_TXID.equals(entry.getKey())) {
+          syncedTxid = Long.parseLong(entry.getValue());
+        }
+      }
+    }
+    log.info("Video search index opened at {} with {} documents, synced up to transaction {}",
+        videoSearchProperties.indexPath(), indexWriter.getDocStats().numDocs, syncedTxid);
+  }
+
+  @PreDestroy
+  void close() throws IOException {
+    searcherManager.close();
+    indexWriter.close();
+    directory.close();
+  }
+
+  public VideoSearchHits search(final String text) {
+    final BooleanQuery query = toQuery(text);
+    if (query.clauses().isEmpty()) {
+      return VideoSearchHits.EMPTY;
+    }
+
+    try {
+      final IndexSearcher searcher = searcherManager.acquire();
+      try {
+        final StoredFields storedFields = searcher.storedFields();
+        final TopDocs topDocs = searcher.search(query, videoSearchProperties.maxHits());
+        final List<UUID> ids = new ArrayList<>(topDocs.scoreDocs.length);
+        for (final ScoreDoc hit : topDocs.scoreDocs) {
+          ids.add(UUID.fromString(storedFields.document(hit.doc).get(FIELD_ID)));
+        }
+        final boolean truncated = topDocs.totalHits.relation() == Relation.GREATER_THAN_OR_EQUAL_TO
+            || topDocs.totalHits.value() > ids.size();
+        return new VideoSearchHits(ids, truncated);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not search video index", e);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void requestSync() {
+    if (syncScheduled.compareAndSet(false, true)) {
+      Thread.ofVirtual().name("video-search-sync").start(() -> {
+        syncScheduled.set(false);
+        syncQuietly();
+      });
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${video.search.sync-interval:30s}",
+      initialDelayString = "${video.search.sync-interval:30s}")
+  public void syncQuietly() {
+    try {
+      sync();
+    } catch (final RuntimeException | IOException e) {
+      log.error("Video search index sync failed", e);
+    }
+  }
+
+  synchronized long sync() throws IOException {
+    final long since = syncedTxid;
+    final LongAdder indexed = new LongAdder();
+
+    final long snapshotXmin = videoChangeRepository.forEachWrittenSince(since, change -> {
+      try {
+        indexWriter.updateDocument(new Term(FIELD_ID, change.id().toString()), toDocument(change));
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Could not index video " + change.id(), e);
+      }
+      indexed.increment();
+    });
+
+    if (indexed.sum() > 0) {
+      indexWriter.setLiveCommitData(Map.of(SYNCED_TXID, String.valueOf(snapshotXmin)).entrySet());
+      indexWriter.commit();
+      searcherManager.maybeRefresh();
+      log.info("Video search index synced {} videos written since transaction {}", indexed.sum(), since);
+    }
+    syncedTxid = snapshotXmin;
+    return indexed.sum();
+  }
+
+  private BooleanQuery toQuery(final String text) {
+    final List<String> terms = new ArrayList<>();
+    try (TokenStream tokens = analyzer.tokenStream(FIELD_TITLE, text)) {
+      final CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+      tokens.reset();
+      while (tokens.incrementToken()) {
+        terms.add(term.toString());
+      }
+      tokens.end();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not analyze search query", e);
+    }
+
+    final BooleanQuery.Builder query = new BooleanQuery.Builder();
+    for (int i = 0; i < terms.size(); i++) {
+      final BooleanQuery.Builder anyField = new BooleanQuery.Builder()
+          .add(new TermQuery(new Term(FIELD_TITLE, terms.get(i))), Occur.SHOULD)
+          .add(new TermQuery(new Term(FIELD_SOURCE, terms.get(i))), Occur.SHOULD);
+      if (i == terms.size() - 1) {
+        anyField.add(new PrefixQuery(new Term(FIELD_TITLE, terms.get(i))), Occur.SHOULD);
+      }
+      query.add(anyField.build(), Occur.MUST);
+    }
+    return query.build();
+  }
+
+  private static Document toDocument(final VideoChange change) {
+    final Document document = new Document();
+    document.add(new StringField(FIELD_ID, change.id().toString(), Store.YES));
+    document.add(new TextField(FIELD_TITLE, change.title(), Store.NO));
+    document.add(new TextField(FIELD_SOURCE, change.source(), Store.NO));
+    return document;
+  }
+}
@@ -6,16 +6,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lt.svaskevicius.videometa.dal.model.Video;
 import lt.svaskevicius.videometa.dal.model.VideoStatistics;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
 import lt.svaskevicius.videometa.dal.repository.VideoRepository;
 import lt.svaskevicius.videometa.dal.repository.VideoStatisticRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoSummaryRepository;
 import lt.svaskevicius.videometa.exception.VideoMetaException;
 import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
-import lt.svaskevicius.videometa.integration.mockoon.MockoonClient;
-import lt.svaskevicius.videometa.service.mapper.MockoonVideoMapper;
+import lt.svaskevicius.videometa.web.model.CountMode;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -25,22 +28,39 @@ import org.springframework.stereotype.Service;
 public class VideoService {
 
   private final VideoRepository videoRepository;
-  private final MockoonClient mockoonClient;
-  private final MockoonVideoMapper mockoonVideoMapper;
+  private final VideoSummaryRepository videoSummaryRepository;
   private final VideoStatisticRepository videoStatisticRepository;
+  private final VideoCountService videoCountService;
+  private final VideoSearchService videoSearchService;
 
-  @CacheEvict(value = "video_statistics", allEntries = true)
-  public void importVideoFromSource(final UUID traceId) {
-    mockoonClient.getVideos().stream()
-        .map(mockoonVideoMapper::toVideo)
-        .forEach(videoRepository::upsertVideo);
+  public VideoPage getVideos(final Pageable pageable, final VideoFilterDto filterDto, final CountMode countMode) {
+    final VideoSearchHits hits = search(filterDto);
+    final Specification<Video> specification = buildSpecification(filterDto, hits);
+    if (countMode == CountMode.EXACT) {
+      final Page<VideoSummary> videos = videoSummaryRepository.findPage(specification, pageable);
+      return new VideoPage(videos, videos.getTotalElements(), countMode, hits.truncated());
+    }
 
-    log.info("Imported video from source, traceId: {}", traceId);
+    final Slice<VideoSummary> videos = videoSummaryRepository.findSlice(specification, pageable);
+    final Long totalElements = switch (countMode) {
+      case ESTIMATED -> filterDto.hasQuery() ?
+          videoRepository.count(specification) :
+          videoCountService.getEstimatedCount(filterDto);
+      case CACHED -> videoCountService.getCachedCount(filterDto.normalized(), specification);
+      default -> null;
+    };
+    return new VideoPage(videos, totalElements, countMode, hits.truncated());
   }
 
-  public Page<Video> getVideos(final Pageable pageable, final VideoFilterDto filterDto) {
-    final Specification<Video> specification = VideoSpecificationService.buildSpecification(filterDto);
-    return videoRepository.findAll(specification, pageable);
+  public VideoPage getVideosAfter(final VideoCursor cursor, final int size, final VideoFilterDto filterDto) {
+    final VideoSearchHits hits = search(filterDto);
+    final Specification<Video> specification = buildSpecification(filterDto, hits)
+        .and(VideoSpecificationService.isAfter(cursor));
+    final List<VideoSummary> videos = videoSummaryRepository.findAll(specification, cursor.sort(), size + 1);
+    final boolean hasNext = videos.size() > size;
+    final Slice<VideoSummary> slice = new SliceImpl<>(hasNext ? videos.subList(0, size) : videos,
+        PageRequest.of(0, size, cursor.sort()), hasNext);
+    return new VideoPage(slice, null, CountMode.NONE, hits.truncated());
   }
 
   public Video getVideoById(final UUID id) {
@@ -54,4 +74,18 @@ public class VideoService {
   public List<VideoStatistics> getVideoStatistics() {
     return videoStatisticRepository.findAllStats();
   }
+
+  private VideoSearchHits search(final VideoFilterDto filterDto) {
+    return filterDto.hasQuery() ?
+        videoSearchService.search(filterDto.query()) :
+        VideoSearchHits.EMPTY;
+  }
+
+  private Specification<Video> buildSpecification(final VideoFilterDto filterDto, final VideoSearchHits hits) {
+    final Specification<Video> specification = VideoSpecificationService.buildSpecification(filterDto);
+    if (!filterDto.hasQuery()) {
+      return specification;
+    }
+    return specification.and(VideoSpecificationService.hasIdIn(hits.ids()));
+  }
 }
@@ -0,0 +1,42 @@
+package lt.svaskevicius.videometa.service.video;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum VideoSortKey {
+  ID("id", false, VideoSummary::id, UUID::fromString),
+  UPLOAD_DATE("uploadDate", true, VideoSummary::uploadDate, LocalDate::parse),
+  DURATION("duration", false, VideoSummary::duration, Integer::valueOf),
+  SOURCE("source", false, VideoSummary::source, value -> value);
+
+  private final String property;
+  private final boolean nullable;
+  private final Function<VideoSummary, Comparable<?>> extractor;
+  private final Function<String, Comparable<?>> parser;
+
+  public static VideoSortKey fromProperty(final String property) {
+    for (final VideoSortKey sortKey : values()) {
+      if (sortKey.property.equals(property)) {
+        return sortKey;
+      }
+    }
+    throw new VideoMetaException(VideoMetaErrorCode.INVALID_REQUEST,
+        "Cursor pagination supports sorting by id, uploadDate, duration and source");
+  }
+
+  public Comparable<?> valueOf(final VideoSummary video) {
+    return extractor.apply(video);
+  }
+
+  public Comparable<?> parse(final String value) {
+    return parser.apply(value);
+  }
+}
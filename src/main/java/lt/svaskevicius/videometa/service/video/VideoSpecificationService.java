@@ -1,7 +1,13 @@
 package lt.svaskevicius.videometa.service.video;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
 import lt.svaskevicius.videometa.dal.model.Video;
+import lt.svaskevicius.videometa.web.model.SourceMatchMode;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -13,15 +19,16 @@ public class VideoSpecificationService {
   private static final String PARAM_UPLOAD_DATE = "uploadDate";
   private static final String PARAM_DURATION = "duration";
 
-  public static Specification<Video> hasSource(final String source) {
+  public static Specification<Video> hasSource(final VideoFilterDto filterDto) {
     return (root, query, criteriaBuilder) -> {
-      if (source == null || source.trim().isEmpty()) {
+      if (!filterDto.hasSource()) {
         return criteriaBuilder.conjunction();
       }
-      return criteriaBuilder.like(
-          criteriaBuilder.lower(root.get(PARAM_SOURCE)),
-          "%" + source.toLowerCase() + "%"
-      );
+      final Expression<String> lowerSource = criteriaBuilder.lower(root.get(PARAM_SOURCE));
+      final String pattern = filterDto.sourceMatch().toPattern(filterDto.source());
+      return filterDto.sourceMatch() == SourceMatchMode.EXACT ?
+          criteriaBuilder.equal(lowerSource, pattern) :
+          criteriaBuilder.like(lowerSource, pattern, SourceMatchMode.LIKE_ESCAPE);
     };
   }
 
@@ -57,12 +64,52 @@ public class VideoSpecificationService {
       if (durationTo == null) {
         return criteriaBuilder.conjunction();
       }
-      return criteriaBuilder.lessThanOrEqualTo(root.get("PARAM_DURATION"), durationTo);
+      return criteriaBuilder.lessThanOrEqualTo(root.get(PARAM_DURATION), durationTo);
     };
   }
 
+  public static Specification<Video> hasIdIn(final Collection<UUID> ids) {
+    return (root, query, criteriaBuilder) -> ids.isEmpty() ?
+        criteriaBuilder.disjunction() :
+        root.get(VideoSortKey.ID.getProperty()).in(ids);
+  }
+
+  public static Specification<Video> isAfter(final VideoCursor cursor) {
+    return (root, query, criteriaBuilder) -> {
+      if (cursor.isFirst()) {
+        return criteriaBuilder.conjunction();
+      }
+      final Predicate idAfter = isBeyond(criteriaBuilder, root.<UUID>get(VideoSortKey.ID.getProperty()), cursor.id(),
+          cursor);
+      if (cursor.sortKey() == VideoSortKey.ID) {
+        return idAfter;
+      }
+      final Expression<Comparable<Object>> key = root.get(cursor.sortKey().getProperty());
+      if (cursor.value() == null) {
+        final Predicate nullTie = criteriaBuilder.and(criteriaBuilder.isNull(key), idAfter);
+        return cursor.direction().isAscending() ? nullTie : criteriaBuilder.or(criteriaBuilder.isNotNull(key), nullTie);
+      }
+      @SuppressWarnings("unchecked") final Comparable<Object> value = (Comparable<Object>) cursor.value();
+      final Predicate after = criteriaBuilder.and(
+          cursor.direction().isAscending() ?
+              criteriaBuilder.greaterThanOrEqualTo(key, value) :
+              criteriaBuilder.lessThanOrEqualTo(key, value),
+          criteriaBuilder.or(isBeyond(criteriaBuilder, key, value, cursor), idAfter));
+      return cursor.sortKey().isNullable() && cursor.direction().isAscending() ?
+          criteriaBuilder.or(after, criteriaBuilder.isNull(key)) :
+          after;
+    };
+  }
+
+  private static <Y extends Comparable<? super Y>> Predicate isBeyond(final CriteriaBuilder criteriaBuilder,
+      final Expression<Y> key, final Y value, final VideoCursor cursor) {
+    return cursor.direction().isAscending() ?
+        criteriaBuilder.greaterThan(key, value) :
+        criteriaBuilder.lessThan(key, value);
+  }
+
   public static Specification<Video> buildSpecification(final VideoFilterDto filterDto) {
-    Specification<Video> spec = hasSource(filterDto.source());
+    Specification<Video> spec = hasSource(filterDto);
 
     spec = spec.and(hasUploadDateFrom(filterDto.uploadDateFrom()));
     spec = spec.and(hasUploadDateTo(filterDto.uploadDateTo()));
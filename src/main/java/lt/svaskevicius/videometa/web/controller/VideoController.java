@@ -1,24 +1,34 @@
 package lt.svaskevicius.videometa.web.controller;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import lt.svaskevicius.videometa.web.model.CountMode;
 import lt.svaskevicius.videometa.web.model.SortDirection;
+import lt.svaskevicius.videometa.web.model.SourceMatchMode;
+import lt.svaskevicius.videometa.web.model.video.VideoCursorPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
 import lt.svaskevicius.videometa.web.service.VideoApiService;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/videos")
@@ -31,31 +41,60 @@ public class VideoController {
   }
 
   @PostMapping("/import")
-  @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize("hasAnyAuthority('ADMIN', 'VIDEO_IMPORTER')")
-  public void importVideo() {
-    videoApiService.importVideos();
+  public ResponseEntity<VideoImportResponseDto> importVideo() {
+    final VideoImportResponseDto response = videoApiService.importVideos();
+    final URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+        .path("/{traceId}")
+        .buildAndExpand(response.traceId())
+        .toUri();
+    return ResponseEntity.accepted().location(location).body(response);
+  }
+
+  @GetMapping("/import/{traceId}")
+  @PreAuthorize("hasAnyAuthority('ADMIN', 'VIDEO_IMPORTER')")
+  public VideoImportJobResponseDto getImportJob(@PathVariable final UUID traceId) {
+    return videoApiService.getImportJob(traceId);
   }
 
   @GetMapping
-  public VideoPageResponseDto getVideos(
+  @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VideoPageResponseDto.class)))
+  public ResponseEntity<byte[]> getVideos(
       @RequestParam(defaultValue = "1") final int page,
       @RequestParam(defaultValue = "10") final int size,
       @RequestParam(defaultValue = "id") final String sortBy,
       @RequestParam(defaultValue = "ASC") final SortDirection sortDirection,
+      @RequestParam(required = false) final String q,
       @RequestParam(required = false) final String source,
+      @RequestParam(defaultValue = "CONTAINS") final SourceMatchMode sourceMatch,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate uploadDateFrom,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate uploadDateTo,
+      @RequestParam(required = false) final Integer durationFrom,
+      @RequestParam(required = false) final Integer durationTo,
+      @RequestParam(defaultValue = "EXACT") final CountMode countMode) {
+    final VideoFilterDto filterDto = toFilter(q, source, sourceMatch, uploadDateFrom, uploadDateTo, durationFrom,
+        durationTo);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(videoApiService.getRenderedVideos(page, size, sortBy, sortDirection, filterDto, countMode));
+  }
+
+  @GetMapping(params = "cursor")
+  public VideoCursorPageResponseDto getVideosByCursor(
+      @RequestParam final String cursor,
+      @RequestParam(defaultValue = "10") final int size,
+      @RequestParam(defaultValue = "id") final String sortBy,
+      @RequestParam(defaultValue = "ASC") final SortDirection sortDirection,
+      @RequestParam(required = false) final String q,
+      @RequestParam(required = false) final String source,
+      @RequestParam(defaultValue = "CONTAINS") final SourceMatchMode sourceMatch,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate uploadDateFrom,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate uploadDateTo,
       @RequestParam(required = false) final Integer durationFrom,
       @RequestParam(required = false) final Integer durationTo) {
-    final VideoFilterDto filterDto = VideoFilterDto.builder()
-        .source(source)
-        .uploadDateFrom(uploadDateFrom)
-        .uploadDateTo(uploadDateTo)
-        .durationFrom(durationFrom)
-        .durationTo(durationTo)
-        .build();
-    return videoApiService.getVideos(page, size, sortBy, sortDirection, filterDto);
+    final VideoFilterDto filterDto = toFilter(q, source, sourceMatch, uploadDateFrom, uploadDateTo, durationFrom,
+        durationTo);
+    return videoApiService.getVideosByCursor(cursor, size, sortBy, sortDirection, filterDto);
   }
 
   @GetMapping("/{id}")
@@ -68,4 +107,18 @@ public class VideoController {
   public List<VideoStatisticsResponseDto> getVideoStats() {
     return videoApiService.getVideoStatistics();
   }
+
+  private static VideoFilterDto toFilter(final String query, final String source,
+      final SourceMatchMode sourceMatch, final LocalDate uploadDateFrom, final LocalDate uploadDateTo,
+      final Integer durationFrom, final Integer durationTo) {
+    return VideoFilterDto.builder()
+        .query(query)
+        .source(source)
+        .sourceMatch(sourceMatch)
+        .uploadDateFrom(uploadDateFrom)
+        .uploadDateTo(uploadDateTo)
+        .durationFrom(durationFrom)
+        .durationTo(durationTo)
+        .build();
+  }
 }
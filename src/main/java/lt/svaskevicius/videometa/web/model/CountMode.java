@@ -0,0 +1,8 @@
+package lt.svaskevicius.videometa.web.model;
+
+public enum CountMode {
+  EXACT,
+  ESTIMATED,
+  CACHED,
+  NONE
+}
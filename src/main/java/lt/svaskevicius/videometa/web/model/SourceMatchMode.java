@@ -0,0 +1,21 @@
+package lt.svaskevicius.videometa.web.model;
+
+public enum SourceMatchMode {
+  EXACT,
+  PREFIX,
+  CONTAINS;
+
+  public static final char LIKE_ESCAPE = '\\';
+
+  public String toPattern(final String source) {
+    final String lowerSource = source.toLowerCase();
+    if (this == EXACT) {
+      return lowerSource;
+    }
+    final String escaped = lowerSource
+        .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+        .replace("%", LIKE_ESCAPE + "%")
+        .replace("_", LIKE_ESCAPE + "_");
+    return this == PREFIX ? escaped + "%" : "%" + escaped + "%";
+  }
+}
@@ -0,0 +1,12 @@
+package lt.svaskevicius.videometa.web.model.video;
+
+import java.util.List;
+
+public record VideoCursorPageResponseDto(
+    int size,
+    String nextCursor,
+    boolean truncated,
+    List<VideoResponseDto> content
+) {
+
+}
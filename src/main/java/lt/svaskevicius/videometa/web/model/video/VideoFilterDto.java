@@ -2,14 +2,35 @@ package lt.svaskevicius.videometa.web.model.video;
 
 import java.time.LocalDate;
 import lombok.Builder;
+import lt.svaskevicius.videometa.web.model.SourceMatchMode;
 
 @Builder
 public record VideoFilterDto(
+    String query,
     String source,
+    SourceMatchMode sourceMatch,
     LocalDate uploadDateFrom,
     LocalDate uploadDateTo,
     Integer durationFrom,
     Integer durationTo
 ) {
 
+  public VideoFilterDto {
+    sourceMatch = sourceMatch != null ? sourceMatch : SourceMatchMode.CONTAINS;
+  }
+
+  public boolean hasSource() {
+    return source != null && !source.trim().isEmpty();
+  }
+
+  public boolean hasQuery() {
+    return query != null && !query.trim().isEmpty();
+  }
+
+  public VideoFilterDto normalized() {
+    final String normalizedSource = hasSource() ? source.toLowerCase() : null;
+    final String normalizedQuery = hasQuery() ? query.trim().toLowerCase() : null;
+    return new VideoFilterDto(normalizedQuery, normalizedSource, sourceMatch, uploadDateFrom, uploadDateTo,
+        durationFrom, durationTo);
+  }
 }
@@ -0,0 +1,30 @@
+package lt.svaskevicius.videometa.web.model.video;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record VideoImportJobResponseDto(
+    UUID traceId,
+    String state,
+    long fetchedRows,
+    long inserted,
+    long updated,
+    long unchanged,
+    StageDto fetch,
+    StageDto map,
+    StageDto upsert,
+    long durationMillis,
+    double rowsPerSecond,
+    String error,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+
+  public record StageDto(
+      long millis,
+      double rowsPerSecond
+  ) {
+
+  }
+}
@@ -0,0 +1,9 @@
+package lt.svaskevicius.videometa.web.model.video;
+
+import java.util.UUID;
+
+public record VideoImportResponseDto(
+    UUID traceId
+) {
+
+}
@@ -1,12 +1,16 @@
 package lt.svaskevicius.videometa.web.model.video;
 
 import java.util.List;
+import lt.svaskevicius.videometa.web.model.CountMode;
 
 public record VideoPageResponseDto(
     int page,
     int size,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
+    boolean hasNext,
+    CountMode countMode,
+    boolean truncated,
     List<VideoResponseDto> content
 ) {
 
@@ -1,23 +1,44 @@
 package lt.svaskevicius.videometa.web.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import lt.svaskevicius.videometa.mapper.VideoImportJobMapper;
 import lt.svaskevicius.videometa.mapper.VideoMapper;
 import lt.svaskevicius.videometa.mapper.VideoStatisticsMapper;
 import lt.svaskevicius.videometa.service.identity.CurrentUserService;
+import lt.svaskevicius.videometa.service.video.VideoCatalogVersionService;
+import lt.svaskevicius.videometa.service.video.VideoCursor;
+import lt.svaskevicius.videometa.service.video.VideoImportCoordinator;
+import lt.svaskevicius.videometa.service.video.VideoImportJobService;
 import lt.svaskevicius.videometa.service.video.VideoImportProducerService;
+import lt.svaskevicius.videometa.service.video.VideoPage;
 import lt.svaskevicius.videometa.service.video.VideoService;
+import lt.svaskevicius.videometa.service.video.VideoSortKey;
+import lt.svaskevicius.videometa.web.model.CountMode;
 import lt.svaskevicius.videometa.web.model.SortDirection;
+import lt.svaskevicius.videometa.web.model.video.VideoCursorPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -25,22 +46,66 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class VideoApiService {
 
+  public static final String VIDEO_PAGES_CACHE = "video_pages";
+
   private final VideoImportProducerService videoImportProducerService;
+  private final VideoImportCoordinator videoImportCoordinator;
+  private final VideoImportJobService videoImportJobService;
   private final VideoService videoService;
   private final VideoMapper videoMapper;
   private final VideoStatisticsMapper videoStatisticsMapper;
+  private final VideoImportJobMapper videoImportJobMapper;
   private final CurrentUserService currentUserService;
+  private final VideoCatalogVersionService videoCatalogVersionService;
+  private final CacheManager cacheManager;
+  private final ObjectMapper objectMapper;
 
-  public void importVideos() {
+  public VideoImportResponseDto importVideos() {
     final UUID initiatorUserId = currentUserService.getCurrentUserId();
-    final UUID traceId = UUID.randomUUID();
-    videoImportProducerService.sendToQueue(traceId);
+    final UUID candidateTraceId = UUID.randomUUID();
+    final UUID traceId = videoImportCoordinator.claimJob(candidateTraceId);
 
-    log.info("Video import initiated by user with ID: {}, traceId: {}", initiatorUserId, traceId);
+    if (traceId.equals(candidateTraceId)) {
+      try {
+        videoImportJobService.createQueued(traceId, initiatorUserId);
+        videoImportProducerService.sendToQueue(traceId);
+      } catch (final RuntimeException e) {
+        videoImportCoordinator.releaseJob(traceId);
+        throw e;
+      }
+      log.info("Video import initiated by user with ID: {}, traceId: {}", initiatorUserId, traceId);
+    } else {
+      log.info("Video import requested by user with ID: {} attached to in-flight import, traceId: {}",
+          initiatorUserId, traceId);
+    }
+    return new VideoImportResponseDto(traceId);
   }
 
-  public VideoPageResponseDto getVideos(final int page, final int size,
-      final String sortBy, final SortDirection sortDirection, final VideoFilterDto filter) {
+  public VideoImportJobResponseDto getImportJob(final UUID traceId) {
+    return videoImportJobMapper.toVideoImportJobResponseDto(videoImportJobService.getJob(traceId));
+  }
+
+  public byte[] getRenderedVideos(final int page, final int size, final String sortBy,
+      final SortDirection sortDirection, final VideoFilterDto filter, final CountMode countMode) {
+    if (filter.hasQuery()) {
+      return render(getVideos(page, size, sortBy, sortDirection, filter, countMode));
+    }
+
+    final String key = videoCatalogVersionService.currentVersion() + ":" + page + ":" + size + ":" + sortBy + ":"
+        + sortDirection + ":" + countMode + ":" + filter.normalized();
+    final Cache cache = Objects.requireNonNull(cacheManager.getCache(VIDEO_PAGES_CACHE));
+    final byte[] cached = cache.get(key, byte[].class);
+    if (cached != null) {
+      return cached;
+    }
+
+    final byte[] rendered = render(getVideos(page, size, sortBy, sortDirection, filter, countMode));
+    cache.put(key, rendered);
+    return rendered;
+  }
+
+  public VideoPageResponseDto getVideos(final int page, final int size, final String sortBy,
+      final SortDirection sortDirection, final VideoFilterDto filter, final CountMode countMode) {
 
     final Sort sort = SortDirection.DESC.equals(sortDirection) ?
         Sort.by(sortBy).descending() :
@@ -48,7 +113,25 @@ public class VideoApiService {
 
     final Pageable pageable = PageRequest.of(page, size, sort);
 
-    return videoMapper.toVideoPageResponseDto(videoService.getVideos(pageable, filter));
+    return videoMapper.toVideoPageResponseDto(videoService.getVideos(pageable, filter, countMode));
+  }
+
+  public VideoCursorPageResponseDto getVideosByCursor(final String cursor, final int size,
+      final String sortBy, final SortDirection sortDirection, final VideoFilterDto filter) {
+    if (size < 1) {
+      throw new VideoMetaException(VideoMetaErrorCode.INVALID_REQUEST, "Page size must be positive");
+    }
+    final VideoCursor first = VideoCursor.first(VideoSortKey.fromProperty(sortBy),
+        SortDirection.DESC.equals(sortDirection) ? Direction.DESC : Direction.ASC);
+    final VideoCursor after = cursor.isBlank() ? first : VideoCursor.decode(cursor);
+    if (after.sortKey() != first.sortKey() || after.direction() != first.direction()) {
+      throw new VideoMetaException(VideoMetaErrorCode.INVALID_REQUEST, "Cursor does not match the requested sort");
+    }
+
+    final VideoPage videoPage = videoService.getVideosAfter(after, size, filter);
+    final Slice<VideoSummary> videos = videoPage.videos();
+    final String nextCursor = videos.hasNext() ? after.after(videos.getContent().getLast()).encode() : null;
+    return videoMapper.toVideoCursorPageResponseDto(videoPage, nextCursor);
   }
 
   public VideoResponseDto getVideoById(final UUID id) {
@@ -59,4 +142,12 @@ public class VideoApiService {
   public List<VideoStatisticsResponseDto> getVideoStatistics() {
     return videoStatisticsMapper.toVideoStatisticsResponseDto(videoService.getVideoStatistics());
   }
+
+  private byte[] render(final VideoPageResponseDto response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException("Could not render video page", e);
+    }
+  }
 }
@@ -0,0 +1,67 @@
+package lt.svaskevicius.videometa.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lt.svaskevicius.videometa.config.RedisConfig;
+import lt.svaskevicius.videometa.dal.model.User;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
+import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class KryoRedisSerializerTest {
+
+  private final KryoRedisSerializer serializer = new KryoRedisSerializer(RedisConfig::registerCacheTypes);
+
+  @Test
+  @DisplayName("Should round trip cached user details")
+  void shouldRoundTripCachedUserDetails() {
+    // Given
+    final User user = new User();
+    user.setId(UUID.randomUUID());
+    user.setUsername("admin");
+    user.setPassword("{bcrypt}hash");
+    user.setActive(true);
+    user.setAuthorities("ADMIN,VIDEO_IMPORTER");
+
+    // When
+    final UserDetails result = (UserDetails) serializer.deserialize(serializer.serialize(new CurrentUserDetails(user)));
+
+    // Then
+    assertThat(result).isInstanceOf(CurrentUserDetails.class);
+    assertThat(((CurrentUserDetails) result).getId()).isEqualTo(user.getId().toString());
+    assertThat(result.getUsername()).isEqualTo("admin");
+    assertThat(result.getPassword()).isEqualTo("{bcrypt}hash");
+    assertThat(result.isEnabled()).isTrue();
+    assertThat(result.getAuthorities()).extracting("authority").containsExactly("ADMIN", "VIDEO_IMPORTER");
+  }
+
+  @Test
+  @DisplayName("Should round trip cached statistics, counts and rendered pages")
+  void shouldRoundTripCachedStatisticsCountsAndRenderedPages() {
+    // Given
+    final List<VideoStatisticsResponseDto> statistics = new ArrayList<>(List.of(
+        new VideoStatisticsResponseDto("YouTube", 100L, 300.5),
+        new VideoStatisticsResponseDto("Vimeo", 50L, null)));
+    final byte[] page = "{\"content\":[]}".getBytes();
+
+    // When / Then
+    assertThat(serializer.deserialize(serializer.serialize(statistics))).isEqualTo(statistics);
+    assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+    assertThat(serializer.deserialize(serializer.serialize(page))).isEqualTo(page);
+  }
+
+  @Test
+  @DisplayName("Should reject value of unregistered type")
+  void shouldRejectValueOfUnregisteredType() {
+    // When / Then
+    assertThatThrownBy(() -> serializer.serialize(List.of("immutable")))
+        .isInstanceOf(SerializationException.class);
+  }
+}
@@ -0,0 +1,100 @@
+package lt.svaskevicius.videometa.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lt.svaskevicius.videometa.config.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Captor
+  private ArgumentCaptor<String> messageCaptor;
+
+  private ConcurrentMapCacheManager remoteCacheManager;
+  private TwoLevelCacheManager node;
+  private TwoLevelCacheManager otherNode;
+
+  @BeforeEach
+  void setUp() {
+    remoteCacheManager = new ConcurrentMapCacheManager();
+    final CacheProperties cacheProperties = new CacheProperties(null, Map.of(), null, Map.of());
+    node = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, cacheProperties);
+    otherNode = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, cacheProperties);
+  }
+
+  @Test
+  @DisplayName("Should serve value from local cache once read from remote cache")
+  void shouldServeValueFromLocalCacheOnceReadFromRemoteCache() {
+    // Given
+    remoteCacheManager.getCache("userDetails").put("admin", "details");
+    final Cache cache = node.getCache("userDetails");
+    cache.get("admin");
+
+    // When
+    remoteCacheManager.getCache("userDetails").clear();
+
+    // Then
+    assertThat(cache.get("admin", String.class)).isEqualTo("details");
+  }
+
+  @Test
+  @DisplayName("Should drop other node's local entries when cache is cleared")
+  void shouldDropOtherNodesLocalEntriesWhenCacheIsCleared() {
+    // Given
+    node.getCache("video_statistics").put("stats", "before import");
+    assertThat(otherNode.getCache("video_statistics").get("stats", String.class)).isEqualTo("before import");
+
+    // When
+    node.getCache("video_statistics").clear();
+    verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), messageCaptor.capture());
+    final DefaultMessage message = new DefaultMessage(
+        TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        messageCaptor.getValue().getBytes(StandardCharsets.UTF_8));
+    otherNode.onMessage(message, null);
+    node.onMessage(message, null);
+
+    // Then
+    assertThat(otherNode.getCache("video_statistics").get("stats")).isNull();
+    assertThat(node.getCache("video_statistics").get("stats")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should drop only the evicted key from other node's local cache")
+  void shouldDropOnlyTheEvictedKeyFromOtherNodesLocalCache() {
+    // Given
+    node.getCache("userDetails").put("admin", "admin details");
+    node.getCache("userDetails").put("analyst", "analyst details");
+    otherNode.getCache("userDetails").get("admin");
+    otherNode.getCache("userDetails").get("analyst");
+    remoteCacheManager.getCache("userDetails").clear();
+
+    // When
+    node.getCache("userDetails").evict("admin");
+    verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), messageCaptor.capture());
+    otherNode.onMessage(new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        messageCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+    // Then
+    assertThat(otherNode.getCache("userDetails").get("admin")).isNull();
+    assertThat(otherNode.getCache("userDetails").get("analyst", String.class)).isEqualTo("analyst details");
+  }
+}
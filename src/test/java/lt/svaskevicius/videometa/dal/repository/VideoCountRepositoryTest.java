@@ -0,0 +1,73 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import lt.svaskevicius.videometa.web.model.SourceMatchMode;
+import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class VideoCountRepositoryTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private VideoCountRepository videoCountRepository;
+
+  @BeforeEach
+  void setUp() {
+    videoCountRepository = new VideoCountRepository(jdbcTemplate, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("Should read row estimate from the plan of the filtered query")
+  void shouldReadRowEstimateFromThePlanOfTheFilteredQuery() {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder()
+        .source("YouTube")
+        .uploadDateFrom(LocalDate.of(2024, 1, 1))
+        .durationTo(600)
+        .build();
+    when(jdbcTemplate.queryForObject(
+        eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM videos WHERE TRUE"
+            + " AND lower(source) LIKE ? ESCAPE '\\' AND upload_date >= ? AND duration <= ?"),
+        eq(String.class), eq("%youtube%"), eq(LocalDate.of(2024, 1, 1)), eq(600)))
+        .thenReturn("[{\"Plan\": {\"Node Type\": \"Seq Scan\", \"Plan Rows\": 4213}}]");
+
+    // When
+    final long result = videoCountRepository.estimateCount(filter);
+
+    // Then
+    assertThat(result).isEqualTo(4213);
+  }
+
+  @Test
+  @DisplayName("Should estimate prefix match with escaped wildcards")
+  void shouldEstimatePrefixMatchWithEscapedWildcards() {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder()
+        .source("Top_50%")
+        .sourceMatch(SourceMatchMode.PREFIX)
+        .build();
+    when(jdbcTemplate.queryForObject(
+        eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM videos WHERE TRUE AND lower(source) LIKE ? ESCAPE '\\'"),
+        eq(String.class), eq("top\\_50\\%%")))
+        .thenReturn("[{\"Plan\": {\"Node Type\": \"Index Only Scan\", \"Plan Rows\": 12}}]");
+
+    // When
+    final long result = videoCountRepository.estimateCount(filter);
+
+    // Then
+    assertThat(result).isEqualTo(12);
+  }
+}
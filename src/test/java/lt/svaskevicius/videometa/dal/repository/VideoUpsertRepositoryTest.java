@@ -0,0 +1,176 @@
+package lt.svaskevicius.videometa.dal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class VideoUpsertRepositoryTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Captor
+  private ArgumentCaptor<String> sqlCaptor;
+
+  @Captor
+  private ArgumentCaptor<PreparedStatementSetter> setterCaptor;
+
+  @Captor
+  private ArgumentCaptor<ResultSetExtractor<long[]>> extractorCaptor;
+
+  private VideoUpsertRepository videoUpsertRepository;
+
+  @BeforeEach
+  void setUp() {
+    videoUpsertRepository = new VideoUpsertRepository(jdbcTemplate, new VideoImportProperties(500, 2, null, 0));
+  }
+
+  @Test
+  @DisplayName("Should split videos into multi-row statements of batch size")
+  void shouldSplitVideosIntoMultiRowStatementsOfBatchSize() {
+    // Given
+    final List<SourceVideoDto> videos = List.of(createSourceVideo("a"), createSourceVideo("b"),
+        createSourceVideo("c"));
+    when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), anyExtractor()))
+        .thenReturn(new long[]{1, 1}, new long[]{0, 0});
+
+    // When
+    final VideoUpsertResult result = videoUpsertRepository.upsertSourceVideos(videos);
+
+    // Then
+    assertThat(result).isEqualTo(new VideoUpsertResult(1, 1, 1));
+    verify(jdbcTemplate, times(2)).query(sqlCaptor.capture(), any(PreparedStatementSetter.class),
+        anyExtractor());
+    assertThat(sqlCaptor.getAllValues().get(0)).containsOnlyOnce("ON CONFLICT (url)");
+    assertThat(sqlCaptor.getAllValues().get(0)).contains("IS DISTINCT FROM");
+    assertThat(countRows(sqlCaptor.getAllValues().get(0))).isEqualTo(2);
+    assertThat(countRows(sqlCaptor.getAllValues().get(1))).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should count inserted and updated rows from returned flags")
+  void shouldCountInsertedAndUpdatedRowsFromReturnedFlags() throws Exception {
+    // Given
+    final ResultSet rs = mock(ResultSet.class);
+    when(rs.next()).thenReturn(true, true, true, false);
+    when(rs.getBoolean("inserted")).thenReturn(true, false, true);
+    when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), anyExtractor()))
+        .thenReturn(new long[]{2, 1});
+
+    // When
+    videoUpsertRepository.upsertSourceVideos(List.of(createSourceVideo("a")));
+
+    // Then
+    verify(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), extractorCaptor.capture());
+    assertThat(extractorCaptor.getValue().extractData(rs)).containsExactly(2, 1);
+  }
+
+  @Test
+  @DisplayName("Should keep last occurrence of duplicate url")
+  void shouldKeepLastOccurrenceOfDuplicateUrl() throws Exception {
+    // Given
+    final SourceVideoDto first = createSourceVideo("a");
+    final SourceVideoDto last = createSourceVideo("a", "Updated title");
+    final PreparedStatement ps = mock(PreparedStatement.class);
+    when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), anyExtractor()))
+        .thenReturn(new long[]{0, 1});
+
+    // When
+    final VideoUpsertResult result = videoUpsertRepository.upsertSourceVideos(List.of(first, last));
+
+    // Then
+    assertThat(result).isEqualTo(new VideoUpsertResult(0, 1, 0));
+    verify(jdbcTemplate).query(sqlCaptor.capture(), setterCaptor.capture(), anyExtractor());
+    assertThat(countRows(sqlCaptor.getValue())).isEqualTo(1);
+    setterCaptor.getValue().setValues(ps);
+    verify(ps).setString(1, "Updated title");
+    verify(ps).setString(2, "https://example.com/a");
+    verify(ps).setInt(3, 120);
+    verify(ps).setString(4, "MockProvider");
+    verify(ps).setObject(5, LocalDate.of(2024, 1, 1), Types.DATE);
+  }
+
+  @Test
+  @DisplayName("Should bind source videos in url order")
+  void shouldBindSourceVideosInUrlOrder() throws Exception {
+    // Given
+    final SourceVideoDto first = createSourceVideo("b");
+    final SourceVideoDto second = createSourceVideo("a");
+    final PreparedStatement ps = mock(PreparedStatement.class);
+    when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), anyExtractor()))
+        .thenReturn(new long[]{2, 0});
+
+    // When
+    final VideoUpsertResult result = videoUpsertRepository.upsertSourceVideos(List.of(first, second));
+
+    // Then
+    assertThat(result).isEqualTo(new VideoUpsertResult(2, 0, 0));
+    verify(jdbcTemplate).query(anyString(), setterCaptor.capture(), anyExtractor());
+    setterCaptor.getValue().setValues(ps);
+    verify(ps).setString(1, "Video a");
+    verify(ps).setString(2, "https://example.com/a");
+    verify(ps).setInt(3, 120);
+    verify(ps).setString(4, "MockProvider");
+    verify(ps).setObject(5, LocalDate.of(2024, 1, 1), Types.DATE);
+    verify(ps).setString(7, "https://example.com/b");
+  }
+
+  @Test
+  @DisplayName("Should not touch database for empty chunk")
+  void shouldNotTouchDatabaseForEmptyChunk() {
+    // When
+    final VideoUpsertResult result = videoUpsertRepository.upsertSourceVideos(List.of());
+
+    // Then
+    assertThat(result).isEqualTo(VideoUpsertResult.EMPTY);
+    verify(jdbcTemplate, never()).query(anyString(), any(PreparedStatementSetter.class), anyExtractor());
+  }
+
+  private static ResultSetExtractor<long[]> anyExtractor() {
+    return any();
+  }
+
+  private long countRows(final String sql) {
+    return sql.lines().filter(line -> line.startsWith("(gen_random_uuid()")).count();
+  }
+
+  private SourceVideoDto createSourceVideo(final String slug) {
+    return createSourceVideo(slug, "Video " + slug);
+  }
+
+  private SourceVideoDto createSourceVideo(final String slug, final String title) {
+    return SourceVideoDto.builder()
+        .title(title)
+        .url("https://example.com/" + slug)
+        .source("MockProvider")
+        .duration(120)
+        .uploadDate(LocalDate.of(2024, 1, 1))
+        .build();
+  }
+}
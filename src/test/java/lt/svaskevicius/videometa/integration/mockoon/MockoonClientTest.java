@@ -0,0 +1,290 @@
+package lt.svaskevicius.videometa.integration.mockoon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties;
+import lt.svaskevicius.videometa.integration.mockoon.config.MockoonClientConfigProperties.Paging;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class MockoonClientTest {
+
+  private static final String BASE_URL = "http://localhost:3000/api/v3";
+
+  private MockRestServiceServer server;
+  private MockoonClient mockoonClient;
+
+  @BeforeEach
+  void setUp() {
+    final RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+    server = MockRestServiceServer.bindTo(builder).build();
+    mockoonClient = new MockoonClient(CircuitBreaker.ofDefaults("test"), Bulkhead.ofDefaults("test"),
+        builder.build(), Jackson2ObjectMapperBuilder.json().build(),
+        new MockoonClientConfigProperties(BASE_URL, "since", "X-Feed-Cursor", null, null, null));
+  }
+
+  @Test
+  @DisplayName("Should stream videos in fixed size chunks")
+  void shouldStreamVideosInFixedSizeChunks() {
+    // Given
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andExpect(method(HttpMethod.GET))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andRespond(withSuccess(videosJson(5), MediaType.APPLICATION_JSON));
+    final List<List<SourceVideoDto>> chunks = new ArrayList<>();
+
+    // When
+    final long total;
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(SourceFeedConditions.NONE)) {
+      total = feed.streamVideos(2, chunks::add);
+    }
+
+    // Then
+    assertThat(total).isEqualTo(5);
+    assertThat(chunks).extracting(List::size).containsExactly(2, 2, 1);
+    assertThat(chunks.get(0).get(0)).isEqualTo(SourceVideoDto.builder()
+        .id("1")
+        .title("Video 1")
+        .source("MockProvider")
+        .url("https://mockprovider.com/videos/1")
+        .duration(60)
+        .uploadDate(LocalDate.of(2024, 1, 1))
+        .build());
+    assertThat(chunks.get(2).get(0).url()).isEqualTo("https://mockprovider.com/videos/5");
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("Should send conditional headers and since cursor")
+  void shouldSendConditionalHeadersAndSinceCursor() {
+    // Given
+    server.expect(requestTo(BASE_URL + "/videos?since=2024-01-01T00%3A00%3A00Z"))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 01 Jan 2024 00:00:00 GMT"))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+    // When
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(
+        new SourceFeedConditions("\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT", "2024-01-01T00:00:00Z"))) {
+
+      // Then
+      assertThat(feed.isModified()).isFalse();
+      assertThat(feed.streamVideos(2, chunk -> {
+      })).isZero();
+    }
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("Should capture validators and cursor of modified feed and fingerprint it once streamed")
+  void shouldCaptureValidatorsCursorAndFingerprintOfModifiedFeed() {
+    // Given
+    final HttpHeaders headers = new HttpHeaders();
+    headers.setETag("\"v2\"");
+    headers.set(HttpHeaders.LAST_MODIFIED, "Tue, 02 Jan 2024 00:00:00 GMT");
+    headers.set("X-Feed-Cursor", "2024-01-02T00:00:00Z");
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+
+    // When
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(SourceFeedConditions.NONE)) {
+
+      // Then
+      assertThat(feed.isModified()).isTrue();
+      assertThat(feed.conditions()).isEqualTo(
+          new SourceFeedConditions("\"v2\"", "Tue, 02 Jan 2024 00:00:00 GMT", "2024-01-02T00:00:00Z"));
+      assertThat(feed.fingerprint()).isNull();
+      assertThat(feed.streamVideos(2, chunk -> {
+      })).isZero();
+      assertThat(feed.fingerprint())
+          .isEqualTo("4f53cda18c2baa0c0354bb5f9a3ecbe5ed12ab4d8e11ba873c2f11161202b945");
+    }
+  }
+
+  @Test
+  @DisplayName("Should hand over first chunk before response body is fully read")
+  void shouldHandOverFirstChunkBeforeResponseBodyIsFullyRead() {
+    // Given
+    final byte[] json = videosJson(500).getBytes(StandardCharsets.UTF_8);
+    final AtomicLong bytesRead = new AtomicLong();
+    final InputStream body = new FilterInputStream(new ByteArrayInputStream(json)) {
+      @Override
+      public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final int read = super.read(buffer, offset, length);
+        bytesRead.addAndGet(Math.max(read, 0));
+        return read;
+      }
+    };
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andRespond(withSuccess(new InputStreamResource(body), MediaType.APPLICATION_JSON));
+    final List<Long> bytesReadAtChunk = new ArrayList<>();
+
+    // When
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(SourceFeedConditions.NONE)) {
+      feed.streamVideos(2, chunk -> bytesReadAtChunk.add(bytesRead.get()));
+
+      // Then
+      assertThat(bytesReadAtChunk.getFirst()).isLessThan(json.length);
+      assertThat(bytesRead.get()).isEqualTo(json.length);
+      assertThat(feed.fingerprint()).hasSize(64);
+    }
+  }
+
+  @Test
+  @DisplayName("Should not call consumer for empty feed")
+  void shouldNotCallConsumerForEmptyFeed() {
+    // Given
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+    final List<List<SourceVideoDto>> chunks = new ArrayList<>();
+
+    // When
+    final long total;
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(SourceFeedConditions.NONE)) {
+      total = feed.streamVideos(2, chunks::add);
+    }
+
+    // Then
+    assertThat(total).isZero();
+    assertThat(chunks).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should fail when feed is not an array")
+  void shouldFailWhenFeedIsNotAnArray() {
+    // Given
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andRespond(withSuccess("{\"id\": \"1\"}", MediaType.APPLICATION_JSON));
+
+    // When / Then
+    try (VideoSourceFeed feed = mockoonClient.fetchVideos(SourceFeedConditions.NONE)) {
+      assertThatThrownBy(() -> feed.streamVideos(2, chunk -> {
+      }))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Failed to read videos from Mockoon feed");
+    }
+  }
+
+  @Test
+  @DisplayName("Should fail when source responds with error status")
+  void shouldFailWhenSourceRespondsWithErrorStatus() {
+    // Given
+    server.expect(requestTo(BASE_URL + "/videos"))
+        .andRespond(withServerError());
+
+    // When / Then
+    assertThatThrownBy(() -> mockoonClient.fetchVideos(SourceFeedConditions.NONE))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Failed to fetch videos from Mockoon");
+  }
+
+  @Test
+  @DisplayName("Should fetch pages in parallel until short page")
+  void shouldFetchPagesInParallelUntilShortPage() {
+    // Given
+    final RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+    final MockRestServiceServer pagedServer = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+    final MockoonClient pagedClient = createPagedClient(builder);
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=1&size=2"))
+        .andRespond(withSuccess(videosJson(1, 2), MediaType.APPLICATION_JSON));
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=2&size=2"))
+        .andRespond(withSuccess(videosJson(3, 2), MediaType.APPLICATION_JSON));
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=3&size=2"))
+        .andRespond(withSuccess(videosJson(5, 1), MediaType.APPLICATION_JSON));
+    pagedServer.expect(ExpectedCount.between(0, 1), requestTo(BASE_URL + "/videos?page=4&size=2"))
+        .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+    final List<List<SourceVideoDto>> chunks = new ArrayList<>();
+
+    // When
+    final long total;
+    try (VideoSourceFeed feed = pagedClient.fetchVideos(SourceFeedConditions.NONE)) {
+      total = feed.streamVideos(2, chunks::add);
+    }
+
+    // Then
+    assertThat(total).isEqualTo(5);
+    assertThat(chunks).extracting(List::size).containsExactlyInAnyOrder(2, 2, 1);
+    assertThat(chunks.stream().flatMap(List::stream).map(SourceVideoDto::id))
+        .containsExactlyInAnyOrder("1", "2", "3", "4", "5");
+    pagedServer.verify();
+  }
+
+  @Test
+  @DisplayName("Should fail paged feed when any page fails")
+  void shouldFailPagedFeedWhenAnyPageFails() {
+    // Given
+    final RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+    final MockRestServiceServer pagedServer = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+    final MockoonClient pagedClient = createPagedClient(builder);
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=1&size=2"))
+        .andRespond(withSuccess(videosJson(1, 2), MediaType.APPLICATION_JSON));
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=2&size=2"))
+        .andRespond(withServerError());
+    pagedServer.expect(requestTo(BASE_URL + "/videos?page=3&size=2"))
+        .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+    // When / Then
+    try (VideoSourceFeed feed = pagedClient.fetchVideos(SourceFeedConditions.NONE)) {
+      assertThatThrownBy(() -> feed.streamVideos(2, chunk -> {
+      }))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Failed to fetch videos from Mockoon");
+    }
+  }
+
+  private MockoonClient createPagedClient(final RestClient.Builder builder) {
+    return new MockoonClient(CircuitBreaker.ofDefaults("test"), Bulkhead.ofDefaults("test"),
+        builder.build(), Jackson2ObjectMapperBuilder.json().build(),
+        new MockoonClientConfigProperties(BASE_URL, null, null, new Paging("page", "size", 1, 2, 2), null, null));
+  }
+
+  private String videosJson(final int count) {
+    return videosJson(1, count);
+  }
+
+  private String videosJson(final int first, final int count) {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = first; i < first + count; i++) {
+      if (i > first) {
+        json.append(',');
+      }
+      json.append("""
+          {"id": "%d", "title": "Video %d", "source": "MockProvider", "duration": %d,
+           "uploadDate": "%s", "url": "https://mockprovider.com/videos/%d"}
+          """.formatted(i, i, i * 60, LocalDate.of(2024, 1, 1).plusDays(i - 1), i));
+    }
+    return json.append(']').toString();
+  }
+}
@@ -0,0 +1,136 @@
+package lt.svaskevicius.videometa.integration.mockoon.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.airlift.compress.zstd.ZstdOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class DecompressingClientHttpRequestInterceptorTest {
+
+  private static final String BODY = "[{\"title\":\"Video 1\"},{\"title\":\"Video 2\"}]";
+
+  private final DecompressingClientHttpRequestInterceptor interceptor =
+      new DecompressingClientHttpRequestInterceptor(List.of("zstd", "gzip"));
+
+  @Test
+  @DisplayName("Should advertise accepted encodings")
+  void shouldAdvertiseAcceptedEncodings() throws IOException {
+    // Given
+    final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/videos"));
+
+    // When
+    interceptor.intercept(request, new byte[0], (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+    // Then
+    assertThat(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("zstd, gzip");
+  }
+
+  @Test
+  @DisplayName("Should stream gzip encoded body decompressed")
+  void shouldStreamGzipEncodedBodyDecompressed() throws IOException {
+    // When
+    final ClientHttpResponse response = intercept("gzip", compress(GZIPOutputStream::new));
+
+    // Then
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should stream zstd encoded body decompressed")
+  void shouldStreamZstdEncodedBodyDecompressed() throws IOException {
+    // When
+    final ClientHttpResponse response = intercept("zstd", compress(ZstdOutputStream::new));
+
+    // Then
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+  }
+
+  @Test
+  @DisplayName("Should decode chained content encodings in reverse order")
+  void shouldDecodeChainedContentEncodingsInReverseOrder() throws IOException {
+    // Given
+    final byte[] gzipThenZstd = compress(out -> new GZIPOutputStream(new ZstdOutputStream(out)));
+
+    // When
+    final ClientHttpResponse response = intercept("gzip, zstd", gzipThenZstd);
+
+    // Then
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should fail on chained encoding with unsupported coding")
+  void shouldFailOnChainedEncodingWithUnsupportedCoding() throws IOException {
+    // When
+    final ClientHttpResponse response = intercept("gzip, br", BODY.getBytes(StandardCharsets.UTF_8));
+
+    // Then
+    assertThatThrownBy(response::getBody)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Unsupported Content-Encoding gzip, br");
+  }
+
+  @Test
+  @DisplayName("Should pass identity encoded body through")
+  void shouldPassIdentityEncodedBodyThrough() throws IOException {
+    // When
+    final ClientHttpResponse response = intercept(null, BODY.getBytes(StandardCharsets.UTF_8));
+
+    // Then
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(response).isInstanceOf(MockClientHttpResponse.class);
+  }
+
+  @Test
+  @DisplayName("Should fail on unsupported content encoding")
+  void shouldFailOnUnsupportedContentEncoding() throws IOException {
+    // When
+    final ClientHttpResponse response = intercept("br", BODY.getBytes(StandardCharsets.UTF_8));
+
+    // Then
+    assertThatThrownBy(response::getBody)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Unsupported Content-Encoding br");
+  }
+
+  private ClientHttpResponse intercept(final String contentEncoding, final byte[] body) throws IOException {
+    final MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+    if (contentEncoding != null) {
+      response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+    }
+    response.getHeaders().setContentLength(body.length);
+    return interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("/videos")), new byte[0],
+        (req, requestBody) -> response);
+  }
+
+  private byte[] compress(final Compressor compressor) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = compressor.wrap(bytes)) {
+      out.write(BODY.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.toByteArray();
+  }
+
+  private interface Compressor {
+
+    OutputStream wrap(OutputStream out) throws IOException;
+  }
+}
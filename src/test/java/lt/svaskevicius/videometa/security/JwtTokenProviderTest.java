@@ -0,0 +1,98 @@
+package lt.svaskevicius.videometa.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lt.svaskevicius.videometa.config.properties.SecurityProperties;
+import lt.svaskevicius.videometa.security.model.TokenClaims;
+import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class JwtTokenProviderTest {
+
+  private static final String SECRET_KEY = "e6d0e2f583c349aaa24b780183bfde7aa136a556ad0230232b889683ec56e846";
+  private static final String ISSUER = "https://videometa.test";
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Test
+  @DisplayName("Should verify generated token and return its claims")
+  void shouldVerifyGeneratedTokenAndReturnItsClaims() {
+    // Given
+    final JwtTokenProvider provider = createProvider(ISSUER, 60_000, 100);
+    final String token = provider.generateToken(createAuthentication(), 4).token();
+
+    // When
+    final Optional<TokenClaims> claims = provider.verifyToken(token);
+
+    // Then
+    assertThat(claims).hasValueSatisfying(verified -> {
+      assertThat(verified.username()).isEqualTo("testuser");
+      assertThat(verified.userId()).isEqualTo(USER_ID);
+      assertThat(verified.authorities()).containsExactly("USER", "VIDEO_IMPORTER");
+      assertThat(verified.tokenVersion()).isEqualTo(4L);
+      assertThat(verified.expiresAt()).isAfter(Instant.now());
+    });
+  }
+
+  @Test
+  @DisplayName("Should reuse verified claims for repeated token only when cache is enabled")
+  void shouldReuseVerifiedClaimsForRepeatedTokenOnlyWhenCacheIsEnabled() {
+    // Given
+    final JwtTokenProvider cached = createProvider(ISSUER, 60_000, 100);
+    final JwtTokenProvider uncached = createProvider(ISSUER, 60_000, 0);
+    final String token = cached.generateToken(createAuthentication(), 1).token();
+
+    // When / Then
+    assertThat(cached.verifyToken(token).orElseThrow()).isSameAs(cached.verifyToken(token).orElseThrow());
+    assertThat(uncached.verifyToken(token).orElseThrow())
+        .isNotSameAs(uncached.verifyToken(token).orElseThrow())
+        .isEqualTo(cached.verifyToken(token).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Should reject expired, tampered and foreign issuer tokens")
+  void shouldRejectExpiredTamperedAndForeignIssuerTokens() {
+    // Given
+    final JwtTokenProvider provider = createProvider(ISSUER, 60_000, 100);
+    final String token = provider.generateToken(createAuthentication(), 1).token();
+    final String expired = createProvider(ISSUER, -1_000, 100).generateToken(createAuthentication(), 1).token();
+    final String foreign = createProvider("https://other.test", 60_000, 100)
+        .generateToken(createAuthentication(), 1).token();
+    final String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    // When / Then
+    assertThat(provider.verifyToken(expired)).isEmpty();
+    assertThat(provider.verifyToken(foreign)).isEmpty();
+    assertThat(provider.verifyToken(tampered)).isEmpty();
+    assertThat(provider.verifyToken("not.a.token")).isEmpty();
+    assertThat(provider.verifyToken(" ")).isEmpty();
+    assertThat(provider.verifyToken(token)).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should fail fast when secret key is too short")
+  void shouldFailFastWhenSecretKeyIsTooShort() {
+    assertThatThrownBy(() -> new JwtTokenProvider(new SecurityProperties("short", ISSUER, 60_000, null)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("JWT secret key must be at least 32 bytes long");
+  }
+
+  private JwtTokenProvider createProvider(final String issuer, final long expirationTimeInMillis,
+      final int verifiedTokenCacheSize) {
+    return new JwtTokenProvider(new SecurityProperties(SECRET_KEY, issuer, expirationTimeInMillis,
+        verifiedTokenCacheSize));
+  }
+
+  private Authentication createAuthentication() {
+    final CurrentUserDetails userDetails = new CurrentUserDetails(USER_ID.toString(), "testuser",
+        List.of("USER", "VIDEO_IMPORTER"));
+    return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+  }
+}
@@ -16,10 +16,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.SneakyThrows;
-import lt.svaskevicius.videometa.dal.model.User;
 import lt.svaskevicius.videometa.security.JwtTokenProvider;
+import lt.svaskevicius.videometa.security.model.TokenClaims;
+import lt.svaskevicius.videometa.service.identity.UserTokenVersionService;
 import lt.svaskevicius.videometa.service.model.CurrentUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,11 +34,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,13 +47,15 @@ class JwtAuthorizationFilterTest {
   private static final String VALID_TOKEN = "valid.jwt.token";
   private static final String INVALID_TOKEN = "invalid.jwt.token";
   private static final String USERNAME = "testuser";
+  private static final UUID USER_ID = UUID.randomUUID();
+  private static final long TOKEN_VERSION = 3;
   private static final String BEARER_TOKEN = "Bearer " + VALID_TOKEN;
 
   @Mock
-  private UserDetailsService userDetailsService;
+  private JwtTokenProvider jwtTokenProvider;
 
   @Mock
-  private JwtTokenProvider jwtTokenProvider;
+  private UserTokenVersionService userTokenVersionService;
 
   @Mock
   private HttpServletRequest request;
@@ -69,17 +72,8 @@ class JwtAuthorizationFilterTest {
   @InjectMocks
   private JwtAuthorizationFilter filter;
 
-  private UserDetails userDetails;
-
   @BeforeEach
   void setUp() {
-    final User user = new User();
-    user.setId(UUID.randomUUID());
-    user.setUsername(USERNAME);
-    user.setPassword("password");
-    user.setAuthorities("USER");
-    userDetails = new CurrentUserDetails(user);
-
     SecurityContextHolder.setContext(securityContext);
   }
 
@@ -95,8 +89,8 @@ class JwtAuthorizationFilterTest {
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider, never()).validateToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider, never()).verifyToken(anyString());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -112,8 +106,8 @@ class JwtAuthorizationFilterTest {
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider, never()).validateToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider, never()).verifyToken(anyString());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -129,8 +123,8 @@ class JwtAuthorizationFilterTest {
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider, never()).validateToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider, never()).verifyToken(anyString());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -146,8 +140,8 @@ class JwtAuthorizationFilterTest {
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider, never()).validateToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider, never()).verifyToken(anyString());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -165,8 +159,8 @@ class JwtAuthorizationFilterTest {
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider, never()).validateToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider, never()).verifyToken(anyString());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -177,18 +171,16 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(USERNAME)));
+    when(userTokenVersionService.findActiveTokenVersion(USER_ID)).thenReturn(Optional.of(TOKEN_VERSION));
 
     // When
     filter.doFilterInternal(request, response, filterChain);
 
     // Then
     verify(filterChain).doFilter(request, response);
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService).loadUserByUsername(USERNAME);
+    verify(jwtTokenProvider).verifyToken(VALID_TOKEN);
+    verify(userTokenVersionService).findActiveTokenVersion(USER_ID);
 
     verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
   }
@@ -199,16 +191,16 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + INVALID_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(INVALID_TOKEN)).thenReturn(false);
+    when(jwtTokenProvider.verifyToken(INVALID_TOKEN)).thenReturn(Optional.empty());
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
         .hasMessage("Invalid or expired JWT token");
 
-    verify(jwtTokenProvider).validateToken(INVALID_TOKEN);
-    verify(jwtTokenProvider, never()).getUsernameFromToken(anyString());
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider).verifyToken(INVALID_TOKEN);
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -218,17 +210,15 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(null);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(null)));
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
         .hasMessage("Username not found in JWT token");
 
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider).verifyToken(VALID_TOKEN);
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -238,17 +228,15 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn("");
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims("")));
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
         .hasMessage("Username not found in JWT token");
 
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider).verifyToken(VALID_TOKEN);
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -258,69 +246,68 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn("   ");
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims("   ")));
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
         .hasMessage("Username not found in JWT token");
 
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService, never()).loadUserByUsername(anyString());
+    verify(jwtTokenProvider).verifyToken(VALID_TOKEN);
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
   @Test
-  @DisplayName("Should throw BadCredentialsException when user is not found")
-  void shouldThrowExceptionWhenUserNotFound() {
+  @DisplayName("Should throw BadCredentialsException when user is no longer active")
+  void shouldThrowExceptionWhenUserIsNoLongerActive() {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-    when(userDetailsService.loadUserByUsername(USERNAME))
-        .thenThrow(new UsernameNotFoundException("User not found"));
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(USERNAME)));
+    when(userTokenVersionService.findActiveTokenVersion(USER_ID)).thenReturn(Optional.empty());
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
-        .hasMessage("User not found")
-        .hasCauseInstanceOf(UsernameNotFoundException.class);
+        .hasMessage("Token has been revoked");
 
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService).loadUserByUsername(USERNAME);
+    verify(userTokenVersionService).findActiveTokenVersion(USER_ID);
     verify(securityContext, never()).setAuthentication(any());
   }
 
   @Test
-  @DisplayName("Should throw BadCredentialsException when token username doesn't match user details username")
-  void shouldThrowExceptionWhenUsernameMismatch() {
+  @DisplayName("Should throw BadCredentialsException when token version is outdated")
+  void shouldThrowExceptionWhenTokenVersionIsOutdated() {
     // Given
-    final String differentUsername = "differentuser";
-    final User user = new User();
-    user.setId(UUID.randomUUID());
-    user.setUsername(differentUsername);
-    user.setPassword("password");
-    user.setAuthorities("USER");
-    final UserDetails userDetailsWithDifferentUsername = new CurrentUserDetails(user);
+    when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
+    when(securityContext.getAuthentication()).thenReturn(null);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(USERNAME)));
+    when(userTokenVersionService.findActiveTokenVersion(USER_ID)).thenReturn(Optional.of(TOKEN_VERSION + 1));
 
+    // When / Then
+    assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
+        .isInstanceOf(BadCredentialsException.class)
+        .hasMessage("Token has been revoked");
+
+    verify(securityContext, never()).setAuthentication(any());
+  }
+
+  @Test
+  @DisplayName("Should throw BadCredentialsException when token carries no user id")
+  void shouldThrowExceptionWhenTokenCarriesNoUserId() {
+    // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetailsWithDifferentUsername);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN))
+        .thenReturn(Optional.of(TokenClaims.builder().username(USERNAME).build()));
 
     // When / Then
     assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
         .isInstanceOf(BadCredentialsException.class)
-        .hasMessage("Token username mismatch");
+        .hasMessage("Token has been revoked");
 
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService).loadUserByUsername(USERNAME);
+    verify(userTokenVersionService, never()).findActiveTokenVersion(any());
     verify(securityContext, never()).setAuthentication(any());
   }
 
@@ -331,9 +318,8 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(USERNAME)));
+    when(userTokenVersionService.findActiveTokenVersion(USER_ID)).thenReturn(Optional.of(TOKEN_VERSION));
 
     // When
     filter.doFilterInternal(request, response, filterChain);
@@ -341,9 +327,11 @@ class JwtAuthorizationFilterTest {
     // Then
     verify(securityContext).setAuthentication(argThat(auth -> {
       final UsernamePasswordAuthenticationToken token = (UsernamePasswordAuthenticationToken) auth;
-      return token.getPrincipal().equals(userDetails) &&
+      return token.getPrincipal() instanceof final CurrentUserDetails principal &&
+          principal.getId().equals(USER_ID.toString()) &&
+          principal.getUsername().equals(USERNAME) &&
           token.getCredentials() == null &&
-          token.getAuthorities().equals(userDetails.getAuthorities()) &&
+          token.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList().equals(List.of("USER")) &&
           token.getDetails() instanceof WebAuthenticationDetails;
     }));
   }
@@ -355,17 +343,15 @@ class JwtAuthorizationFilterTest {
     // Given
     when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_TOKEN);
     when(securityContext.getAuthentication()).thenReturn(null);
-    when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(VALID_TOKEN)).thenReturn(USERNAME);
-    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    when(jwtTokenProvider.verifyToken(VALID_TOKEN)).thenReturn(Optional.of(createClaims(USERNAME)));
+    when(userTokenVersionService.findActiveTokenVersion(USER_ID)).thenReturn(Optional.of(TOKEN_VERSION));
 
     // When
     filter.doFilterInternal(request, response, filterChain);
 
     // Then
-    verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-    verify(jwtTokenProvider).getUsernameFromToken(VALID_TOKEN);
-    verify(userDetailsService).loadUserByUsername(USERNAME);
+    verify(jwtTokenProvider).verifyToken(VALID_TOKEN);
+    verify(userTokenVersionService).findActiveTokenVersion(USER_ID);
     verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
   }
 
@@ -397,6 +383,15 @@ class JwtAuthorizationFilterTest {
         .isEqualTo(expectedException);
   }
 
+  private TokenClaims createClaims(final String username) {
+    return TokenClaims.builder()
+        .username(username)
+        .userId(USER_ID)
+        .authorities(List.of("USER"))
+        .tokenVersion(TOKEN_VERSION)
+        .build();
+  }
+
   @Test
   @DisplayName("Should clear security context after test")
   void shouldClearSecurityContextAfterTest() {
@@ -3,10 +3,13 @@ package lt.svaskevicius.videometa.service.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import lt.svaskevicius.videometa.dal.model.User;
 import lt.svaskevicius.videometa.security.JwtTokenProvider;
@@ -20,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
@@ -32,6 +36,9 @@ class IdentityServiceTest {
   @Mock
   private JwtTokenProvider jwtTokenProvider;
 
+  @Mock
+  private UserTokenVersionService userTokenVersionService;
+
   @InjectMocks
   private IdentityService identityService;
 
@@ -105,7 +112,8 @@ class IdentityServiceTest {
   @DisplayName("Should generate token successfully")
   void shouldGenerateTokenSuccessfully() {
     // Given
-    final User user = createUser(UUID.randomUUID(), "testuser", "USER");
+    final UUID userId = UUID.randomUUID();
+    final User user = createUser(userId, "testuser", "USER");
     final CurrentUserDetails userDetails = new CurrentUserDetails(user);
     final Authentication authentication = new UsernamePasswordAuthenticationToken(
         userDetails, "password", userDetails.getAuthorities());
@@ -113,7 +121,8 @@ class IdentityServiceTest {
     final Date expiresAt = new Date(now.getTime() + 3600000);
     final TokenData expectedToken = new TokenData("jwt-token", now, expiresAt);
 
-    when(jwtTokenProvider.generateToken(authentication)).thenReturn(expectedToken);
+    when(userTokenVersionService.findActiveTokenVersion(userId)).thenReturn(Optional.of(2L));
+    when(jwtTokenProvider.generateToken(authentication, 2L)).thenReturn(expectedToken);
 
     // When
     final TokenData result = identityService.generateToken(authentication);
@@ -123,14 +132,15 @@ class IdentityServiceTest {
     assertThat(result.token()).isEqualTo("jwt-token");
     assertThat(result.issuedAt()).isEqualTo(now);
     assertThat(result.expiresAt()).isEqualTo(expiresAt);
-    verify(jwtTokenProvider).generateToken(authentication);
+    verify(jwtTokenProvider).generateToken(authentication, 2L);
   }
 
   @Test
   @DisplayName("Should generate token for admin user successfully")
   void shouldGenerateTokenForAdminUserSuccessfully() {
     // Given
-    final User adminUser = createUser(UUID.randomUUID(), "admin", "ADMIN");
+    final UUID userId = UUID.randomUUID();
+    final User adminUser = createUser(userId, "admin", "ADMIN");
     final CurrentUserDetails adminDetails = new CurrentUserDetails(adminUser);
     final Authentication authentication = new UsernamePasswordAuthenticationToken(
         adminDetails, "password", adminDetails.getAuthorities());
@@ -138,7 +148,8 @@ class IdentityServiceTest {
     final Date expiresAt = new Date(now.getTime() + 3600000);
     final TokenData expectedToken = new TokenData("admin-jwt-token", now, expiresAt);
 
-    when(jwtTokenProvider.generateToken(authentication)).thenReturn(expectedToken);
+    when(userTokenVersionService.findActiveTokenVersion(userId)).thenReturn(Optional.of(2L));
+    when(jwtTokenProvider.generateToken(authentication, 2L)).thenReturn(expectedToken);
 
     // When
     final TokenData result = identityService.generateToken(authentication);
@@ -148,7 +159,25 @@ class IdentityServiceTest {
     assertThat(result.token()).isEqualTo("admin-jwt-token");
     assertThat(result.issuedAt()).isEqualTo(now);
     assertThat(result.expiresAt()).isEqualTo(expiresAt);
-    verify(jwtTokenProvider).generateToken(authentication);
+    verify(jwtTokenProvider).generateToken(authentication, 2L);
+  }
+
+  @Test
+  @DisplayName("Should not generate token for inactive user")
+  void shouldNotGenerateTokenForInactiveUser() {
+    // Given
+    final UUID userId = UUID.randomUUID();
+    final CurrentUserDetails userDetails = new CurrentUserDetails(createUser(userId, "testuser", "USER"));
+    final Authentication authentication = new UsernamePasswordAuthenticationToken(
+        userDetails, "password", userDetails.getAuthorities());
+
+    when(userTokenVersionService.findActiveTokenVersion(userId)).thenReturn(Optional.empty());
+
+    // When / Then
+    assertThatThrownBy(() -> identityService.generateToken(authentication))
+        .isInstanceOf(DisabledException.class)
+        .hasMessage("User is not active");
+    verify(jwtTokenProvider, never()).generateToken(any(), anyLong());
   }
 
   @Test
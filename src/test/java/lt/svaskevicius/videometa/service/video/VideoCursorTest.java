@@ -0,0 +1,61 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+class VideoCursorTest {
+
+  @Test
+  @DisplayName("Should round trip cursor with sort key value and id")
+  void shouldRoundTripCursorWithSortKeyValueAndId() {
+    // Given
+    final VideoSummary video = createVideoSummary("Code|Academy", LocalDate.of(2024, 8, 15));
+    final VideoCursor cursor = VideoCursor.first(VideoSortKey.SOURCE, Direction.DESC).after(video);
+
+    // When
+    final VideoCursor result = VideoCursor.decode(cursor.encode());
+
+    // Then
+    assertThat(result).isEqualTo(new VideoCursor(VideoSortKey.SOURCE, Direction.DESC, "Code|Academy", video.id()));
+    assertThat(result.sort()).isEqualTo(Sort.by(Direction.DESC, "source", "id"));
+  }
+
+  @Test
+  @DisplayName("Should round trip cursor positioned on a video without upload date")
+  void shouldRoundTripCursorPositionedOnAVideoWithoutUploadDate() {
+    // Given
+    final VideoSummary video = createVideoSummary("youtube", null);
+    final VideoCursor cursor = VideoCursor.first(VideoSortKey.UPLOAD_DATE, Direction.ASC).after(video);
+
+    // When
+    final VideoCursor result = VideoCursor.decode(cursor.encode());
+
+    // Then
+    assertThat(result.value()).isNull();
+    assertThat(result.id()).isEqualTo(video.id());
+    assertThat(result.isFirst()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should reject tampered cursor")
+  void shouldRejectTamperedCursor() {
+    // When / Then
+    assertThatThrownBy(() -> VideoCursor.decode("bm90LWEtY3Vyc29y"))
+        .isInstanceOf(VideoMetaException.class)
+        .hasFieldOrPropertyWithValue("errorCode", VideoMetaErrorCode.INVALID_REQUEST);
+  }
+
+  private VideoSummary createVideoSummary(final String source, final LocalDate uploadDate) {
+    return new VideoSummary(UUID.randomUUID(), "Video", source, "http://example.com/video", 180, uploadDate);
+  }
+}
@@ -0,0 +1,58 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+@ExtendWith(MockitoExtension.class)
+class VideoImportChunkRecovererTest {
+
+  @Mock
+  private VideoImportJobService videoImportJobService;
+
+  @InjectMocks
+  private VideoImportChunkRecoverer videoImportChunkRecoverer;
+
+  @Test
+  @DisplayName("Should count exhausted chunk as failed for its job")
+  void shouldCountExhaustedChunkAsFailedForItsJob() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final MessageProperties properties = new MessageProperties();
+    properties.setCorrelationId(traceId.toString());
+    properties.setHeader(RabbitMqConfig.VIDEO_IMPORT_FEED_HEADER, "mockoon");
+    properties.setHeader(RabbitMqConfig.VIDEO_IMPORT_FENCING_TOKEN_HEADER, 7L);
+    properties.setHeader(RabbitMqConfig.VIDEO_IMPORT_SEQUENCE_HEADER, 3);
+    final RuntimeException cause = new IllegalStateException("Deadlock detected");
+
+    // When
+    videoImportChunkRecoverer.recover(new Message(new byte[0], properties), cause);
+
+    // Then
+    verify(videoImportJobService).failChunk(traceId, "mockoon", 7, 3, cause);
+  }
+
+  @Test
+  @DisplayName("Should drop exhausted chunk without trace ID, feed or sequence")
+  void shouldDropExhaustedChunkWithoutTraceIdFeedOrSequence() {
+    // When
+    videoImportChunkRecoverer.recover(new Message(new byte[0], new MessageProperties()),
+        new IllegalStateException("Deadlock detected"));
+
+    // Then
+    verify(videoImportJobService, never()).failChunk(any(), any(), anyLong(), anyInt(), any());
+  }
+}
@@ -1,11 +1,24 @@
 package lt.svaskevicius.videometa.service.video;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.UUID;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import lt.svaskevicius.videometa.service.video.VideoImportCoordinator.ImportLease;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,66 +27,120 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class VideoImportConsumerServiceTest {
 
   @Mock
-  private VideoService videoService;
+  private VideoImportService videoImportService;
+
+  @Mock
+  private VideoImportCoordinator videoImportCoordinator;
+
+  @Mock
+  private VideoImportJobService videoImportJobService;
+
+  @Mock
+  private VideoSearchService videoSearchService;
+
+  @Mock
+  private VideoImportProducerService videoImportProducerService;
+
+  @Mock
+  private ImportLease importLease;
 
   @InjectMocks
   private VideoImportConsumerService videoImportConsumerService;
 
   @Test
-  @DisplayName("Should consume message and call video service successfully")
-  void shouldConsumeMessageAndCallVideoServiceSuccessfully() {
+  @DisplayName("Should import under lease and release it afterwards")
+  void shouldImportUnderLeaseAndReleaseItAfterwards() {
     // Given
     final UUID traceId = UUID.randomUUID();
+    when(videoImportCoordinator.acquireLease(traceId)).thenReturn(Optional.of(importLease));
+    when(importLease.fencingToken()).thenReturn(42L);
+    final VideoImportReport report = new VideoImportReport(false, 3, new VideoUpsertResult(3, 0, 0), 10, 1, 5, 16);
+    when(videoImportService.importVideoFromSource(traceId, 42L)).thenReturn(report);
 
     // When
     videoImportConsumerService.consume(traceId);
 
     // Then
-    verify(videoService).importVideoFromSource(traceId);
+    final InOrder inOrder = inOrder(videoImportJobService, videoImportService, videoSearchService);
+    inOrder.verify(videoImportJobService).markRunning(traceId);
+    inOrder.verify(videoImportService).importVideoFromSource(traceId, 42L);
+    inOrder.verify(videoImportJobService).markFinished(traceId, report);
+    inOrder.verify(videoSearchService).requestSync();
+    verify(importLease).close();
   }
 
   @Test
-  @DisplayName("Should consume message with specific UUID successfully")
-  void shouldConsumeMessageWithSpecificUuidSuccessfully() {
+  @DisplayName("Should acknowledge duplicate delivery of already processed import without running it")
+  void shouldAcknowledgeDuplicateDeliveryOfAlreadyProcessedImportWithoutRunningIt() {
     // Given
-    final UUID traceId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportCoordinator.acquireLease(traceId)).thenReturn(Optional.of(importLease));
+    when(videoImportJobService.isProcessed(traceId)).thenReturn(true);
 
     // When
     videoImportConsumerService.consume(traceId);
 
     // Then
-    verify(videoService).importVideoFromSource(traceId);
+    verify(videoImportService, never()).importVideoFromSource(any(), anyLong());
+    verify(videoImportJobService, never()).markRunning(traceId);
+    verify(importLease).close();
   }
 
   @Test
-  @DisplayName("Should handle multiple message consumption")
-  void shouldHandleMultipleMessageConsumption() {
+  @DisplayName("Should route delivery to retry queue when lease is held by another node")
+  void shouldRouteDeliveryToRetryQueueWhenLeaseIsHeldByAnotherNode() {
     // Given
-    final UUID traceId1 = UUID.randomUUID();
-    final UUID traceId2 = UUID.randomUUID();
-    final UUID traceId3 = UUID.randomUUID();
+    final UUID traceId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    when(videoImportCoordinator.acquireLease(traceId)).thenReturn(Optional.empty());
 
     // When
-    videoImportConsumerService.consume(traceId1);
-    videoImportConsumerService.consume(traceId2);
-    videoImportConsumerService.consume(traceId3);
+    videoImportConsumerService.consume(traceId);
 
     // Then
-    verify(videoService).importVideoFromSource(traceId1);
-    verify(videoService).importVideoFromSource(traceId2);
-    verify(videoService).importVideoFromSource(traceId3);
+    verify(videoImportProducerService).sendToRetryQueue(traceId);
+    verify(videoImportService, never()).importVideoFromSource(any(), anyLong());
+    verifyNoInteractions(videoImportJobService);
   }
 
   @Test
-  @DisplayName("Should handle null trace ID consumption")
-  void shouldHandleNullTraceIdConsumption() {
+  @DisplayName("Should run redelivered import of crashed node once its lease has expired")
+  void shouldRunRedeliveredImportOfCrashedNodeOnceItsLeaseHasExpired() {
     // Given
-    final UUID traceId = null;
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportCoordinator.acquireLease(traceId)).thenReturn(Optional.empty())
+        .thenReturn(Optional.of(importLease));
+    when(importLease.fencingToken()).thenReturn(43L);
+    final VideoImportReport report = new VideoImportReport(false, 3, new VideoUpsertResult(1, 0, 0), 10, 1, 5, 16);
+    when(videoImportService.importVideoFromSource(traceId, 43L)).thenReturn(report);
 
     // When
     videoImportConsumerService.consume(traceId);
+    videoImportConsumerService.consume(traceId);
 
     // Then
-    verify(videoService).importVideoFromSource(traceId);
+    final InOrder inOrder = inOrder(videoImportProducerService, videoImportJobService, videoImportService);
+    inOrder.verify(videoImportProducerService).sendToRetryQueue(traceId);
+    inOrder.verify(videoImportJobService).isProcessed(traceId);
+    inOrder.verify(videoImportJobService).markRunning(traceId);
+    inOrder.verify(videoImportService).importVideoFromSource(traceId, 43L);
+    inOrder.verify(videoImportJobService).markFinished(traceId, report);
+    verify(importLease).close();
+  }
+
+  @Test
+  @DisplayName("Should mark job failed and release lease when import fails")
+  void shouldMarkJobFailedAndReleaseLeaseWhenImportFails() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportCoordinator.acquireLease(traceId)).thenReturn(Optional.of(importLease));
+    when(importLease.fencingToken()).thenReturn(42L);
+    final IllegalStateException failure = new IllegalStateException("boom");
+    doThrow(failure).when(videoImportService).importVideoFromSource(traceId, 42L);
+
+    // When / Then
+    assertThatThrownBy(() -> videoImportConsumerService.consume(traceId))
+        .isSameAs(failure);
+    verify(videoImportJobService).markFailed(traceId, failure);
+    verify(importLease).close();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lt.svaskevicius.videometa.config.properties.VideoImportLeaseProperties;
+import lt.svaskevicius.videometa.service.video.VideoImportCoordinator.ImportLease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class VideoImportCoordinatorTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Captor
+  private ArgumentCaptor<RedisScript<Long>> scriptCaptor;
+
+  private VideoImportCoordinator videoImportCoordinator;
+
+  @BeforeEach
+  void setUp() {
+    videoImportCoordinator = new VideoImportCoordinator(redisTemplate,
+        new VideoImportLeaseProperties(Duration.ofMinutes(2), Duration.ofHours(1)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    videoImportCoordinator.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should return in-flight trace id when job is already claimed")
+  void shouldReturnInFlightTraceIdWhenJobIsAlreadyClaimed() {
+    // Given
+    final UUID inFlightTraceId = UUID.randomUUID();
+    when(redisTemplate.execute(anyScript(), eq(List.of("video:import:job")), anyString(), eq("3600000")))
+        .thenReturn(inFlightTraceId.toString());
+
+    // When
+    final UUID traceId = videoImportCoordinator.claimJob(UUID.randomUUID());
+
+    // Then
+    assertThat(traceId).isEqualTo(inFlightTraceId);
+  }
+
+  @Test
+  @DisplayName("Should acquire lease with fencing token and release it on close")
+  void shouldAcquireLeaseWithFencingTokenAndReleaseItOnClose() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(redisTemplate.execute(anyScript(),
+        eq(List.of("video:import:lease", "video:import:fence", "video:import:job")),
+        eq("120000"), eq(traceId.toString()), eq("3600000")))
+        .thenReturn(5L);
+
+    // When
+    final Optional<ImportLease> lease = videoImportCoordinator.acquireLease(traceId);
+
+    // Then
+    assertThat(lease).hasValueSatisfying(held -> assertThat(held.fencingToken()).isEqualTo(5L));
+    lease.get().close();
+    verify(redisTemplate).execute(anyScript(), eq(List.of("video:import:lease", "video:import:job")),
+        eq("5"), eq(traceId.toString()));
+  }
+
+  @Test
+  @DisplayName("Should release job key only while it still holds the claimed trace id")
+  void shouldReleaseJobKeyOnlyWhileItStillHoldsTheClaimedTraceId() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    // When
+    videoImportCoordinator.releaseJob(traceId);
+
+    // Then
+    verify(redisTemplate).execute(scriptCaptor.capture(), eq(List.of("video:import:job")), eq(traceId.toString()));
+    assertThat(scriptCaptor.getValue().getScriptAsString()).contains("GET", "DEL");
+  }
+
+  @Test
+  @DisplayName("Should not acquire lease held by another node")
+  void shouldNotAcquireLeaseHeldByAnotherNode() {
+    // Given
+    when(redisTemplate.execute(anyScript(), anyList(), anyString(), anyString(), anyString()))
+        .thenReturn(null);
+
+    // When
+    final Optional<ImportLease> lease = videoImportCoordinator.acquireLease(UUID.randomUUID());
+
+    // Then
+    assertThat(lease).isEmpty();
+  }
+
+  private static <T> RedisScript<T> anyScript() {
+    return any();
+  }
+}
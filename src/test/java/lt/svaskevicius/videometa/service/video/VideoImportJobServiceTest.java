@@ -0,0 +1,311 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lt.svaskevicius.videometa.config.properties.VideoImportPartitionProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties.ImportMode;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress.Key;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob.State;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.dal.repository.VideoImportChunkProgressRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoImportJobRepository;
+import lt.svaskevicius.videometa.exception.VideoMetaException;
+import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoImportJobServiceTest {
+
+  @Mock
+  private VideoImportJobRepository videoImportJobRepository;
+
+  @Mock
+  private VideoImportChunkProgressRepository videoImportChunkProgressRepository;
+
+  @Captor
+  private ArgumentCaptor<VideoImportJob> jobCaptor;
+
+  private VideoImportJobService videoImportJobService;
+
+  @BeforeEach
+  void setUp() {
+    videoImportJobService = new VideoImportJobService(videoImportJobRepository, videoImportChunkProgressRepository,
+        new VideoImportPartitionProperties(0, 0, 0, 0, Duration.ofMillis(50), Duration.ofMillis(1)));
+  }
+
+  @Test
+  @DisplayName("Should create queued job for initiator")
+  void shouldCreateQueuedJobForInitiator() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final UUID userId = UUID.randomUUID();
+    when(videoImportJobRepository.save(any(VideoImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    final VideoImportJob job = videoImportJobService.createQueued(traceId, userId);
+
+    // Then
+    assertThat(job.getTraceId()).isEqualTo(traceId);
+    assertThat(job.getInitiatorUserId()).isEqualTo(userId);
+    assertThat(job.getState()).isEqualTo(State.QUEUED);
+  }
+
+  @Test
+  @DisplayName("Should record counts, stage timings and throughput when finished")
+  void shouldRecordCountsStageTimingsAndThroughputWhenFinished() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final VideoImportJob runningJob = new VideoImportJob(traceId);
+    runningJob.setState(State.RUNNING);
+    when(videoImportJobRepository.findById(traceId)).thenReturn(Optional.of(runningJob));
+    final VideoImportReport report = new VideoImportReport(false, 2_000, new VideoUpsertResult(500, 700, 800),
+        300, 200, 500, 1_000);
+
+    // When
+    videoImportJobService.markFinished(traceId, report);
+
+    // Then
+    verify(videoImportJobRepository).save(jobCaptor.capture());
+    final VideoImportJob job = jobCaptor.getValue();
+    assertThat(job.getState()).isEqualTo(State.SUCCEEDED);
+    assertThat(job.getFetchedRows()).isEqualTo(2_000);
+    assertThat(job.getInserted()).isEqualTo(500);
+    assertThat(job.getUpdated()).isEqualTo(700);
+    assertThat(job.getUnchanged()).isEqualTo(800);
+    assertThat(job.getFetchMillis()).isEqualTo(300);
+    assertThat(job.getMapMillis()).isEqualTo(200);
+    assertThat(job.getUpsertMillis()).isEqualTo(500);
+    assertThat(job.getDurationMillis()).isEqualTo(1_000);
+    assertThat(job.getRowsPerSecond()).isEqualTo(2_000.0);
+    assertThat(job.getFinishedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should mark skipped import")
+  void shouldMarkSkippedImport() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportJobRepository.findById(traceId)).thenReturn(Optional.empty());
+
+    // When
+    videoImportJobService.markFinished(traceId, VideoImportReport.skipped(15));
+
+    // Then
+    verify(videoImportJobRepository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getState()).isEqualTo(State.SKIPPED);
+    assertThat(jobCaptor.getValue().getRowsPerSecond()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should mark failed job with error message")
+  void shouldMarkFailedJobWithErrorMessage() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportJobRepository.findById(traceId)).thenReturn(Optional.of(new VideoImportJob(traceId)));
+
+    // When
+    videoImportJobService.markFailed(traceId, new IllegalStateException("Source unavailable"));
+
+    // Then
+    verify(videoImportJobRepository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getState()).isEqualTo(State.FAILED);
+    assertThat(jobCaptor.getValue().getError()).isEqualTo("Source unavailable");
+  }
+
+  @Test
+  @DisplayName("Should throw not found for unknown trace id")
+  void shouldThrowNotFoundForUnknownTraceId() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportJobRepository.findById(traceId)).thenReturn(Optional.empty());
+
+    // When / Then
+    assertThatThrownBy(() -> videoImportJobService.getJob(traceId))
+        .isInstanceOf(VideoMetaException.class)
+        .satisfies(e -> assertThat(((VideoMetaException) e).getErrorCode()).isEqualTo(VideoMetaErrorCode.NOT_FOUND));
+  }
+
+  @Test
+  @DisplayName("Should keep checkpoints when job starts running again")
+  void shouldKeepCheckpointsWhenJobStartsRunningAgain() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportJobRepository.findById(traceId)).thenReturn(Optional.of(new VideoImportJob(traceId)));
+
+    // When
+    videoImportJobService.markRunning(traceId);
+
+    // Then
+    verify(videoImportJobRepository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getState()).isEqualTo(State.RUNNING);
+    verifyNoInteractions(videoImportChunkProgressRepository);
+  }
+
+  @Test
+  @DisplayName("Should treat succeeded and skipped jobs as processed")
+  void shouldTreatSucceededAndSkippedJobsAsProcessed() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportJobRepository.existsByTraceIdAndStateIn(traceId, Set.of(State.SUCCEEDED, State.SKIPPED)))
+        .thenReturn(true);
+
+    // When / Then
+    assertThat(videoImportJobService.isProcessed(traceId)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should resume checkpoint of same mode and feed ETag without failed chunks")
+  void shouldResumeCheckpointOfSameModeAndFeedEtagWithoutFailedChunks() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final Key key = new Key(traceId, "mockoon");
+    final VideoImportChunkProgress checkpoint = progress(key, 3, 0);
+    checkpoint.setMode(ImportMode.BATCH);
+    checkpoint.setEtag("\"v2\"");
+    when(videoImportChunkProgressRepository.findById(key)).thenReturn(Optional.of(checkpoint));
+
+    // When / Then
+    assertThat(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.BATCH, "\"v2\""))
+        .containsSame(checkpoint);
+    assertThat(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.BATCH, "\"v3\"")).isEmpty();
+    assertThat(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.PARTITIONED, "\"v2\""))
+        .isEmpty();
+    checkpoint.setFailedChunks(1);
+    assertThat(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.BATCH, "\"v2\"")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should not resume feed without ETag")
+  void shouldNotResumeFeedWithoutEtag() {
+    // When / Then
+    assertThat(videoImportJobService.findCheckpoint(UUID.randomUUID(), "mockoon", ImportMode.BATCH, null)).isEmpty();
+    verifyNoInteractions(videoImportChunkProgressRepository);
+  }
+
+  @Test
+  @DisplayName("Should start fresh checkpoint and save committed progress")
+  void shouldStartFreshCheckpointAndSaveCommittedProgress() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    // When
+    final VideoImportChunkProgress checkpoint = videoImportJobService.startCheckpoint(traceId, "mockoon", 7,
+        ImportMode.BATCH, "\"v2\"");
+    videoImportJobService.saveCheckpoint(traceId, "mockoon", 1000, 2, new VideoUpsertResult(600, 300, 100));
+
+    // Then
+    assertThat(checkpoint.getCommittedRows()).isZero();
+    assertThat(checkpoint.getEtag()).isEqualTo("\"v2\"");
+    assertThat(checkpoint.getFencingToken()).isEqualTo(7);
+    verify(videoImportChunkProgressRepository).startProgress(traceId, "mockoon", 7, "BATCH", "\"v2\"");
+    verify(videoImportChunkProgressRepository).saveCheckpoint(traceId, "mockoon", 1000, 2, 600, 300, 100);
+  }
+
+  @Test
+  @DisplayName("Should arm chunk barrier and wait until every chunk of feed is done")
+  void shouldArmChunkBarrierAndWaitUntilEveryChunkOfFeedIsDone() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final Key key = new Key(traceId, "mockoon");
+    final VideoImportChunkProgress done = progress(key, 2, 1);
+    when(videoImportChunkProgressRepository.findById(key))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(progress(key, 1, 0)))
+        .thenReturn(Optional.of(done));
+
+    // When
+    final VideoImportChunkProgress result = videoImportJobService.awaitChunks(traceId, "mockoon", 7, 3, 1500);
+
+    // Then
+    assertThat(result).isSameAs(done);
+    verify(videoImportChunkProgressRepository).armChunkBarrier(traceId, "mockoon", 3, 1500);
+    verify(videoImportChunkProgressRepository, times(3)).findById(key);
+  }
+
+  @Test
+  @DisplayName("Should fail when chunk barrier times out")
+  void shouldFailWhenChunkBarrierTimesOut() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final Key key = new Key(traceId, "mockoon");
+    when(videoImportChunkProgressRepository.findById(key)).thenReturn(Optional.of(progress(key, 1, 0)));
+
+    // When / Then
+    assertThatThrownBy(() -> videoImportJobService.awaitChunks(traceId, "mockoon", 7, 4, 2000))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Timed out waiting for 3 of 4 video import chunks of feed mockoon");
+  }
+
+  @Test
+  @DisplayName("Should fail chunk barrier when chunks were republished with newer fencing token")
+  void shouldFailChunkBarrierWhenChunksWereRepublishedWithNewerFencingToken() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final Key key = new Key(traceId, "mockoon");
+    final VideoImportChunkProgress republished = progress(key, 0, 0);
+    republished.setFencingToken(8L);
+    when(videoImportChunkProgressRepository.findById(key)).thenReturn(Optional.of(republished));
+
+    // When / Then
+    assertThatThrownBy(() -> videoImportJobService.awaitChunks(traceId, "mockoon", 7, 4, 2000))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Video import chunks of feed mockoon were republished with fencing token 8");
+  }
+
+  @Test
+  @DisplayName("Should claim chunk only once per fencing token and sequence")
+  void shouldClaimChunkOnlyOncePerFencingTokenAndSequence() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    when(videoImportChunkProgressRepository.claimChunk(traceId, "mockoon", 7, 3))
+        .thenReturn(1)
+        .thenReturn(0);
+
+    // When / Then
+    assertThat(videoImportJobService.claimChunk(traceId, "mockoon", 7, 3)).isTrue();
+    assertThat(videoImportJobService.claimChunk(traceId, "mockoon", 7, 3)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should add chunk counts and failures to feed progress")
+  void shouldAddChunkCountsAndFailuresToFeedProgress() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    // When
+    videoImportJobService.completeChunk(traceId, "mockoon", 7, new VideoUpsertResult(2, 1, 4));
+    videoImportJobService.failChunk(traceId, "mockoon", 7, 3, new IllegalStateException("Deadlock detected"));
+
+    // Then
+    verify(videoImportChunkProgressRepository).completeChunk(traceId, "mockoon", 7, 2, 1, 4);
+    verify(videoImportChunkProgressRepository).failChunk(traceId, "mockoon", 7, 3, "Deadlock detected");
+  }
+
+  private VideoImportChunkProgress progress(final Key key, final int completed, final int failed) {
+    final VideoImportChunkProgress progress = new VideoImportChunkProgress(key);
+    progress.setFencingToken(7L);
+    progress.setCompletedChunks(completed);
+    progress.setFailedChunks(failed);
+    return progress;
+  }
+}
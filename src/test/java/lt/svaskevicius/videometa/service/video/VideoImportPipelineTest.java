@@ -0,0 +1,151 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import lt.svaskevicius.videometa.config.properties.VideoImportPipelineProperties;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VideoImportPipelineTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private VideoImportPipelineMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new VideoImportPipelineMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Should write every chunk with multiple write workers")
+  void shouldWriteEveryChunkWithMultipleWriteWorkers() {
+    // Given
+    final AtomicInteger written = new AtomicInteger();
+    final Set<Long> committed = ConcurrentHashMap.newKeySet();
+    final VideoUpsertResult result;
+
+    // When
+    try (VideoImportPipeline pipeline = new VideoImportPipeline("mockoon",
+        new VideoImportPipelineProperties(3, 2), metrics, videos -> {
+          written.addAndGet(videos.size());
+          return new VideoUpsertResult(videos.size(), 0, 0);
+        }, (sequence, rows, chunkResult) -> committed.add(sequence))) {
+      for (int chunk = 0; chunk < 20; chunk++) {
+        pipeline.accept(List.of(createSourceVideo(chunk + "a"), createSourceVideo(chunk + "b")));
+      }
+      result = pipeline.finish();
+    }
+
+    // Then
+    assertThat(result).isEqualTo(new VideoUpsertResult(40, 0, 0));
+    assertThat(written).hasValue(40);
+    assertThat(committed).hasSize(20).allSatisfy(sequence -> assertThat(sequence).isBetween(0L, 19L));
+  }
+
+  @Test
+  @DisplayName("Should block fetcher while write stage is saturated and expose queue occupancy")
+  void shouldBlockFetcherWhileWriteStageIsSaturatedAndExposeQueueOccupancy() throws Exception {
+    // Given
+    final CountDownLatch databaseReleased = new CountDownLatch(1);
+    final AtomicInteger accepted = new AtomicInteger();
+    final VideoImportPipeline pipeline = new VideoImportPipeline("mockoon",
+        new VideoImportPipelineProperties(1, 1), metrics, videos -> {
+          await(databaseReleased);
+          return new VideoUpsertResult(0, 0, videos.size());
+        }, (sequence, rows, result) -> {
+        });
+    final Thread fetcher = Thread.ofVirtual().start(() -> {
+      for (int chunk = 0; chunk < 10; chunk++) {
+        pipeline.accept(List.of(createSourceVideo(String.valueOf(chunk))));
+        accepted.incrementAndGet();
+      }
+    });
+
+    // When
+    waitUntil(() -> queueSize(VideoImportPipeline.WRITE_STAGE) == 1);
+    TimeUnit.MILLISECONDS.sleep(200);
+
+    // Then
+    assertThat(accepted).hasValue(2);
+    assertThat(fetcher.isAlive()).isTrue();
+    assertThat(meterRegistry.get(VideoImportPipelineMetrics.QUEUE_CAPACITY).tag("stage", "write").gauge().value())
+        .isEqualTo(1);
+
+    databaseReleased.countDown();
+    fetcher.join();
+    try (pipeline) {
+      assertThat(pipeline.finish()).isEqualTo(new VideoUpsertResult(0, 0, 10));
+    }
+    assertThat(queueSize(VideoImportPipeline.WRITE_STAGE)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should propagate write failure and stop accepting chunks")
+  void shouldPropagateWriteFailureAndStopAcceptingChunks() {
+    // Given
+    final AtomicInteger writes = new AtomicInteger();
+    final VideoImportPipeline pipeline = new VideoImportPipeline("mockoon",
+        new VideoImportPipelineProperties(1, 1), metrics, videos -> {
+          writes.incrementAndGet();
+          throw new IllegalStateException("Database unavailable");
+        }, (sequence, rows, result) -> {
+        });
+
+    // When / Then
+    try (pipeline) {
+      assertThatThrownBy(() -> {
+        for (int chunk = 0; chunk < 100; chunk++) {
+          pipeline.accept(List.of(createSourceVideo(String.valueOf(chunk))));
+        }
+        pipeline.finish();
+      }).isInstanceOf(IllegalStateException.class).hasMessage("Database unavailable");
+    }
+    assertThat(writes).hasValue(1);
+  }
+
+  private double queueSize(final String stage) {
+    return meterRegistry.get(VideoImportPipelineMetrics.QUEUE_SIZE).tag("feed", "mockoon").tag("stage", stage)
+        .gauge().value();
+  }
+
+  private void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+
+  private void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private SourceVideoDto createSourceVideo(final String slug) {
+    return SourceVideoDto.builder()
+        .title("Video " + slug)
+        .source("MockProvider")
+        .url("https://example.com/" + slug)
+        .duration(120)
+        .uploadDate(LocalDate.of(2024, 1, 1))
+        .build();
+  }
+}
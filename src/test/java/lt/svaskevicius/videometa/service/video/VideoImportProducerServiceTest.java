@@ -1,15 +1,24 @@
 package lt.svaskevicius.videometa.service.video;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.UUID;
 import lt.svaskevicius.videometa.config.RabbitMqConfig;
+import lt.svaskevicius.videometa.service.model.VideoImportChunkMessage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +30,9 @@ class VideoImportProducerServiceTest {
   @InjectMocks
   private VideoImportProducerService videoImportProducerService;
 
+  @Captor
+  private ArgumentCaptor<MessagePostProcessor> postProcessorCaptor;
+
   @Test
   @DisplayName("Should send message to video import queue successfully")
   void shouldSendMessageToVideoImportQueueSuccessfully() {
@@ -71,4 +83,41 @@ class VideoImportProducerServiceTest {
         traceId
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should send trace ID to retry queue")
+  void shouldSendTraceIdToRetryQueue() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    // When
+    videoImportProducerService.sendToRetryQueue(traceId);
+
+    // Then
+    verify(rabbitTemplate).convertAndSend(RabbitMqConfig.VIDEO_IMPORT_RETRY_QUEUE, traceId);
+  }
+
+  @Test
+  @DisplayName("Should send chunk to chunk queue correlated by trace ID, feed and sequence")
+  void shouldSendChunkToChunkQueueCorrelatedByTraceIdFeedAndSequence() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final VideoImportChunkMessage chunk = new VideoImportChunkMessage(traceId, "mockoon", 7, 5, 3, List.of());
+
+    // When
+    videoImportProducerService.sendChunk(chunk);
+
+    // Then
+    verify(rabbitTemplate).convertAndSend(eq(RabbitMqConfig.VIDEO_IMPORT_CHUNK_QUEUE), eq(chunk),
+        postProcessorCaptor.capture());
+    final Message message = postProcessorCaptor.getValue().postProcessMessage(new Message(new byte[0],
+        new MessageProperties()));
+    assertThat(message.getMessageProperties().getCorrelationId()).isEqualTo(traceId.toString());
+    assertThat(message.getMessageProperties().<String>getHeader(RabbitMqConfig.VIDEO_IMPORT_FEED_HEADER))
+        .isEqualTo("mockoon");
+    assertThat(message.getMessageProperties().<Long>getHeader(RabbitMqConfig.VIDEO_IMPORT_FENCING_TOKEN_HEADER))
+        .isEqualTo(7L);
+    assertThat(message.getMessageProperties().<Integer>getHeader(RabbitMqConfig.VIDEO_IMPORT_SEQUENCE_HEADER))
+        .isEqualTo(5);
+  }
+}
@@ -0,0 +1,721 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import lt.svaskevicius.videometa.config.properties.VideoImportPartitionProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportPipelineProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties;
+import lt.svaskevicius.videometa.config.properties.VideoImportProperties.ImportMode;
+import lt.svaskevicius.videometa.dal.model.VideoFeedState;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress;
+import lt.svaskevicius.videometa.dal.model.VideoImportChunkProgress.Key;
+import lt.svaskevicius.videometa.dal.model.VideoUpsertResult;
+import lt.svaskevicius.videometa.dal.repository.VideoBulkLoadRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoBulkLoadRepository.StagingLoad;
+import lt.svaskevicius.videometa.dal.repository.VideoFeedStateRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoUpsertRepository;
+import lt.svaskevicius.videometa.integration.source.VideoSourceConnector;
+import lt.svaskevicius.videometa.integration.source.VideoSourceConnector.FetchStrategy;
+import lt.svaskevicius.videometa.integration.source.VideoSourceFeed;
+import lt.svaskevicius.videometa.integration.source.model.SourceFeedConditions;
+import lt.svaskevicius.videometa.integration.source.model.SourceVideoDto;
+import lt.svaskevicius.videometa.service.model.VideoImportChunkMessage;
+import lt.svaskevicius.videometa.service.model.VideoImportReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class VideoImportServiceTest {
+
+  private static final long FENCING_TOKEN = 7;
+  private static final SourceFeedConditions OLD_CONDITIONS =
+      new SourceFeedConditions("\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT", "cursor-1");
+  private static final SourceFeedConditions NEW_CONDITIONS =
+      new SourceFeedConditions("\"v2\"", "Tue, 02 Jan 2024 00:00:00 GMT", "cursor-2");
+
+  @Mock
+  private VideoSourceConnector connector;
+
+  @Mock
+  private VideoSourceConnector otherConnector;
+
+  @Mock
+  private VideoUpsertRepository videoUpsertRepository;
+
+  @Mock
+  private VideoBulkLoadRepository videoBulkLoadRepository;
+
+  @Mock
+  private VideoFeedStateRepository videoFeedStateRepository;
+
+  @Mock
+  private VideoImportProducerService videoImportProducerService;
+
+  @Mock
+  private VideoImportJobService videoImportJobService;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private VideoSourceFeed feed;
+
+  @Mock
+  private StagingLoad stagingLoad;
+
+  @Mock
+  private VideoCatalogVersionService videoCatalogVersionService;
+
+  @Captor
+  private ArgumentCaptor<VideoFeedState> stateCaptor;
+
+  @Captor
+  private ArgumentCaptor<VideoImportChunkMessage> chunkCaptor;
+
+  @Captor
+  private ArgumentCaptor<Throwable> failureCaptor;
+
+  @Test
+  @DisplayName("Should upsert every streamed chunk in batch mode")
+  void shouldUpsertEveryStreamedChunkInBatchMode() {
+    // Given
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+    final SourceVideoDto mockoonVideo2 = createMockoonVideo("Video 2");
+    final SourceVideoDto mockoonVideo3 = createMockoonVideo("Video 3");
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1, mockoonVideo2), List.of(mockoonVideo3)));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2)))
+        .thenReturn(new VideoUpsertResult(1, 1, 0));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo3))).thenReturn(new VideoUpsertResult(0, 0, 1));
+    when(videoImportJobService.startCheckpoint(any(), eq("mockoon"), eq(FENCING_TOKEN), eq(ImportMode.BATCH),
+        eq(NEW_CONDITIONS.etag())))
+        .thenReturn(new VideoImportChunkProgress(new Key(UUID.randomUUID(), "mockoon")));
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(FENCING_TOKEN);
+
+    // When
+    final VideoImportReport report = createService(ImportMode.BATCH, 10)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(1, 1, 1));
+    assertThat(report.fetchedRows()).isEqualTo(3);
+    assertThat(report.durationMillis()).isGreaterThanOrEqualTo(report.fetchMillis());
+    verify(feed).streamVideos(eq(2), any());
+    verify(videoUpsertRepository).upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2));
+    verify(videoUpsertRepository).upsertSourceVideos(List.of(mockoonVideo3));
+    verify(videoBulkLoadRepository, never()).beginStagingLoad();
+    verify(videoImportJobService).saveCheckpoint(any(), eq("mockoon"), eq(3L), eq(2),
+        eq(new VideoUpsertResult(1, 1, 1)));
+    verify(videoCatalogVersionService).bump();
+  }
+
+  @Test
+  @DisplayName("Should fail batch import once a newer lease holder advanced the fencing token")
+  void shouldFailBatchImportOnceNewerLeaseHolderAdvancedTheFencingToken() {
+    // Given
+    stubTransaction();
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.empty());
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(any())).thenReturn(feed);
+    when(feed.isModified()).thenReturn(true);
+    when(feed.conditions()).thenReturn(NEW_CONDITIONS);
+    when(videoFeedStateRepository.advanceFencingToken("mockoon", FENCING_TOKEN)).thenReturn(1);
+    doAnswer(invocation -> {
+      invocation.<Consumer<List<SourceVideoDto>>>getArgument(1).accept(List.of(createMockoonVideo("Video 1")));
+      return 1L;
+    }).when(feed).streamVideos(anyInt(), any());
+    when(videoImportJobService.startCheckpoint(any(), eq("mockoon"), eq(FENCING_TOKEN), eq(ImportMode.BATCH),
+        eq(NEW_CONDITIONS.etag())))
+        .thenReturn(new VideoImportChunkProgress(new Key(UUID.randomUUID(), "mockoon")));
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(FENCING_TOKEN + 1);
+
+    // When / Then
+    assertThatThrownBy(() -> createService(ImportMode.BATCH, 10).importVideoFromSource(UUID.randomUUID(),
+        FENCING_TOKEN))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Video import lease with fencing token " + FENCING_TOKEN + " is stale");
+    verify(videoFeedStateRepository).advanceFencingToken("mockoon", FENCING_TOKEN);
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+    verify(videoImportJobService, never()).saveCheckpoint(any(), any(), anyLong(), anyInt(), any());
+    verify(videoFeedStateRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Should resume batch import after last committed checkpoint")
+  void shouldResumeBatchImportAfterLastCommittedCheckpoint() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+    final SourceVideoDto mockoonVideo2 = createMockoonVideo("Video 2");
+    final SourceVideoDto mockoonVideo3 = createMockoonVideo("Video 3");
+    final VideoImportChunkProgress checkpoint = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    checkpoint.setCommittedRows(2);
+    checkpoint.setCompletedChunks(1);
+    checkpoint.setInserted(2);
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1, mockoonVideo2), List.of(mockoonVideo3)));
+    when(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.BATCH, NEW_CONDITIONS.etag()))
+        .thenReturn(Optional.of(checkpoint));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo3))).thenReturn(new VideoUpsertResult(1, 0, 0));
+
+    // When
+    final VideoImportReport report = createService(ImportMode.BATCH, 10).importVideoFromSource(traceId,
+        FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(3, 0, 0));
+    assertThat(report.fetchedRows()).isEqualTo(3);
+    verify(videoUpsertRepository).upsertSourceVideos(List.of(mockoonVideo3));
+    verify(videoUpsertRepository, never()).upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2));
+    verify(videoImportJobService, never()).startCheckpoint(any(), any(), anyLong(), any(), any());
+    verify(videoImportJobService).saveCheckpoint(traceId, "mockoon", 3, 2, new VideoUpsertResult(3, 0, 0));
+  }
+
+  @Test
+  @DisplayName("Should resume batch import from checkpoint of crashed holder under newer fencing token")
+  void shouldResumeBatchImportFromCheckpointOfCrashedHolderUnderNewerFencingToken() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final long newerFencingToken = FENCING_TOKEN + 1;
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+    final SourceVideoDto mockoonVideo2 = createMockoonVideo("Video 2");
+    final SourceVideoDto mockoonVideo3 = createMockoonVideo("Video 3");
+    final VideoImportChunkProgress checkpoint = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    checkpoint.setCommittedRows(2);
+    checkpoint.setCompletedChunks(1);
+    checkpoint.setInserted(2);
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1, mockoonVideo2), List.of(mockoonVideo3)), newerFencingToken);
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(newerFencingToken);
+    when(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.BATCH, NEW_CONDITIONS.etag()))
+        .thenReturn(Optional.of(checkpoint));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo3))).thenReturn(new VideoUpsertResult(0, 1, 0));
+
+    // When
+    final VideoImportReport report = createService(ImportMode.BATCH, 10).importVideoFromSource(traceId,
+        newerFencingToken);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(2, 1, 0));
+    verify(videoUpsertRepository, never()).upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2));
+    verify(videoImportJobService).saveCheckpoint(traceId, "mockoon", 3, 2, new VideoUpsertResult(2, 1, 0));
+    verify(videoFeedStateRepository).save(stateCaptor.capture());
+    assertThat(stateCaptor.getValue().getFencingToken()).isEqualTo(newerFencingToken);
+  }
+
+  @Test
+  @DisplayName("Should upsert small feed in one transaction in auto mode")
+  void shouldUpsertSmallFeedInOneTransactionInAutoMode() {
+    // Given
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+    final SourceVideoDto mockoonVideo2 = createMockoonVideo("Video 2");
+    final SourceVideoDto mockoonVideo3 = createMockoonVideo("Video 3");
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1, mockoonVideo2), List.of(mockoonVideo3)));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2, mockoonVideo3)))
+        .thenReturn(new VideoUpsertResult(3, 0, 0));
+
+    // When
+    final VideoImportReport report = createService(ImportMode.AUTO, 10)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(3, 0, 0));
+    verify(videoUpsertRepository).upsertSourceVideos(List.of(mockoonVideo1, mockoonVideo2, mockoonVideo3));
+    verify(videoBulkLoadRepository, never()).beginStagingLoad();
+  }
+
+  @Test
+  @DisplayName("Should switch to staging load once feed reaches bulk threshold in auto mode")
+  void shouldSwitchToStagingLoadOnceFeedReachesBulkThresholdInAutoMode() {
+    // Given
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+    final SourceVideoDto mockoonVideo2 = createMockoonVideo("Video 2");
+    final SourceVideoDto mockoonVideo3 = createMockoonVideo("Video 3");
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1, mockoonVideo2), List.of(mockoonVideo3)));
+    when(videoBulkLoadRepository.beginStagingLoad()).thenReturn(stagingLoad);
+    when(stagingLoad.merge()).thenReturn(new VideoUpsertResult(0, 1, 2));
+
+    // When
+    final VideoImportReport report = createService(ImportMode.AUTO, 2)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(0, 1, 2));
+    verify(stagingLoad).write(List.of(mockoonVideo1, mockoonVideo2));
+    verify(stagingLoad).write(List.of(mockoonVideo3));
+    verify(stagingLoad).merge();
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+  }
+
+  @Test
+  @DisplayName("Should stage every chunk in bulk mode")
+  void shouldStageEveryChunkInBulkMode() {
+    // Given
+    final SourceVideoDto mockoonVideo1 = createMockoonVideo("Video 1");
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo1)));
+    when(videoBulkLoadRepository.beginStagingLoad()).thenReturn(stagingLoad);
+    when(stagingLoad.merge()).thenReturn(new VideoUpsertResult(1, 0, 0));
+
+    // When
+    createService(ImportMode.BULK, 10_000).importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    verify(stagingLoad).write(List.of(mockoonVideo1));
+    verify(stagingLoad).merge();
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+  }
+
+  @Test
+  @DisplayName("Should handle empty feed without touching database")
+  void shouldHandleEmptyFeedWithoutTouchingDatabase() {
+    // Given
+    stubTransaction();
+    stubStreamedChunks(List.of());
+
+    // When
+    final VideoImportReport report = createService(ImportMode.AUTO, 10)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.skipped()).isFalse();
+    assertThat(report.fetchedRows()).isZero();
+    assertThat(report.result()).isEqualTo(VideoUpsertResult.EMPTY);
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+    verify(videoBulkLoadRepository, never()).beginStagingLoad();
+  }
+
+  @Test
+  @DisplayName("Should persist feed state after import")
+  void shouldPersistFeedStateAfterImport() {
+    // Given
+    stubTransaction();
+    stubStreamedChunks(List.of());
+
+    // When
+    createService(ImportMode.AUTO, 10).importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    verify(connector).fetchVideos(SourceFeedConditions.NONE);
+    verify(videoFeedStateRepository).save(stateCaptor.capture());
+    assertThat(stateCaptor.getValue()).satisfies(state -> {
+      assertThat(state.getFeed()).isEqualTo("mockoon");
+      assertThat(state.getFencingToken()).isEqualTo(FENCING_TOKEN);
+      assertThat(state.getEtag()).isEqualTo("\"v2\"");
+      assertThat(state.getLastModified()).isEqualTo("Tue, 02 Jan 2024 00:00:00 GMT");
+      assertThat(state.getCursor()).isEqualTo("cursor-2");
+      assertThat(state.getFingerprint()).isEqualTo("new-fingerprint");
+    });
+    verify(feed).close();
+  }
+
+  @Test
+  @DisplayName("Should skip import when source responds not modified")
+  void shouldSkipImportWhenSourceRespondsNotModified() {
+    // Given
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.of(storedState()));
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(OLD_CONDITIONS)).thenReturn(feed);
+    when(feed.isModified()).thenReturn(false);
+
+    // When
+    final VideoImportReport report = createService(ImportMode.AUTO, 10)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.skipped()).isTrue();
+    verify(feed, never()).streamVideos(anyInt(), any());
+    verify(transactionTemplate, never()).execute(any());
+    verify(videoFeedStateRepository, never()).save(any());
+    verify(videoCatalogVersionService, never()).bump();
+  }
+
+  @Test
+  @DisplayName("Should keep feed state when streamed feed fingerprint is unchanged")
+  void shouldKeepFeedStateWhenStreamedFeedFingerprintIsUnchanged() {
+    // Given
+    final SourceVideoDto mockoonVideo = createMockoonVideo("Video 1");
+
+    stubTransaction();
+    stubUnchangedFeed(OLD_CONDITIONS, List.of(mockoonVideo));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo))).thenReturn(new VideoUpsertResult(0, 0, 1));
+
+    // When
+    final VideoImportReport report = createService(ImportMode.AUTO, 10)
+        .importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(0, 0, 1));
+    verify(feed).streamVideos(anyInt(), any());
+    verify(videoFeedStateRepository, never()).save(any());
+    verify(videoCatalogVersionService, never()).bump();
+  }
+
+  @Test
+  @DisplayName("Should only refresh validators when streamed feed fingerprint is unchanged")
+  void shouldOnlyRefreshValidatorsWhenStreamedFeedFingerprintIsUnchanged() {
+    // Given
+    final SourceVideoDto mockoonVideo = createMockoonVideo("Video 1");
+
+    stubTransaction();
+    stubUnchangedFeed(NEW_CONDITIONS, List.of(mockoonVideo));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo))).thenReturn(new VideoUpsertResult(0, 0, 1));
+
+    // When
+    createService(ImportMode.AUTO, 10).importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN);
+
+    // Then
+    verify(videoFeedStateRepository).save(stateCaptor.capture());
+    assertThat(stateCaptor.getValue().getEtag()).isEqualTo("\"v2\"");
+    assertThat(stateCaptor.getValue().getFingerprint()).isEqualTo("old-fingerprint");
+  }
+
+  @Test
+  @DisplayName("Should reject import holding stale fencing token")
+  void shouldRejectImportHoldingStaleFencingToken() {
+    // Given
+    stubTransaction();
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.empty());
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(any())).thenReturn(feed);
+    when(feed.isModified()).thenReturn(true);
+    when(videoFeedStateRepository.advanceFencingToken("mockoon", FENCING_TOKEN)).thenReturn(0);
+
+    // When / Then
+    final VideoImportService service = createService(ImportMode.AUTO, 10);
+    assertThatThrownBy(() -> service.importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Video import lease with fencing token 7 is stale");
+    verify(feed, never()).streamVideos(anyInt(), any());
+    verify(videoFeedStateRepository, never()).save(any());
+    verify(feed).close();
+  }
+
+  @Test
+  @DisplayName("Should publish url hash partitioned chunks and wait for them in partitioned mode")
+  void shouldPublishUrlHashPartitionedChunksAndWaitForThemInPartitionedMode() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final List<SourceVideoDto> videos = List.of(createMockoonVideo("Video 1"), createMockoonVideo("Video 2"),
+        createMockoonVideo("Video 3"), createMockoonVideo("Video 4"), createMockoonVideo("Video 5"));
+    final VideoImportChunkProgress progress = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    progress.setInserted(3);
+    progress.setUpdated(1);
+    progress.setUnchanged(1);
+
+    stubTransaction();
+    stubStreamedChunks(List.of(videos.subList(0, 3), videos.subList(3, 5)));
+    when(videoImportJobService.awaitChunks(eq(traceId), eq("mockoon"), eq(FENCING_TOKEN), anyInt(), eq(5L)))
+        .thenReturn(progress);
+
+    // When
+    final VideoImportReport report = createService(ImportMode.PARTITIONED, 10)
+        .importVideoFromSource(traceId, FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(3, 1, 1));
+    assertThat(report.fetchedRows()).isEqualTo(5);
+    verify(videoImportProducerService, atLeastOnce()).sendChunk(chunkCaptor.capture());
+    final List<VideoImportChunkMessage> chunks = chunkCaptor.getAllValues();
+    assertThat(chunks).allSatisfy(chunk -> {
+      assertThat(chunk.traceId()).isEqualTo(traceId);
+      assertThat(chunk.fencingToken()).isEqualTo(FENCING_TOKEN);
+      assertThat(chunk.videos()).hasSizeLessThanOrEqualTo(2)
+          .allSatisfy(video -> assertThat(Math.floorMod(video.url().hashCode(), 2)).isEqualTo(chunk.partition()));
+    });
+    assertThat(chunks.stream().flatMap(chunk -> chunk.videos().stream())).containsExactlyInAnyOrderElementsOf(videos);
+    assertThat(chunks).extracting(VideoImportChunkMessage::sequence)
+        .containsExactlyElementsOf(IntStream.range(0, chunks.size()).boxed().toList());
+    verify(videoImportJobService).startCheckpoint(traceId, "mockoon", FENCING_TOKEN, ImportMode.PARTITIONED,
+        NEW_CONDITIONS.etag());
+    verify(videoImportJobService).awaitChunks(traceId, "mockoon", FENCING_TOKEN, chunks.size(), 5);
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+    verify(videoFeedStateRepository).save(any(VideoFeedState.class));
+  }
+
+  @Test
+  @DisplayName("Should only wait for chunks when resumed partitioned import already published them")
+  void shouldOnlyWaitForChunksWhenResumedPartitionedImportAlreadyPublishedThem() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final VideoImportChunkProgress checkpoint = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    checkpoint.setFencingToken(FENCING_TOKEN - 1);
+    checkpoint.setTotalChunks(4);
+    checkpoint.setCommittedRows(9);
+    final VideoImportChunkProgress progress = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    progress.setCompletedChunks(4);
+    progress.setInserted(9);
+
+    stubTransaction();
+    stubModifiedFeed("new-fingerprint", NEW_CONDITIONS);
+    when(videoImportJobService.findCheckpoint(traceId, "mockoon", ImportMode.PARTITIONED, NEW_CONDITIONS.etag()))
+        .thenReturn(Optional.of(checkpoint));
+    when(videoImportJobService.awaitChunks(traceId, "mockoon", FENCING_TOKEN - 1, 4, 9)).thenReturn(progress);
+
+    // When
+    final VideoImportReport report = createService(ImportMode.PARTITIONED, 10)
+        .importVideoFromSource(traceId, FENCING_TOKEN);
+
+    // Then
+    assertThat(report.result()).isEqualTo(new VideoUpsertResult(9, 0, 0));
+    assertThat(report.fetchedRows()).isEqualTo(9);
+    verify(feed, never()).streamVideos(anyInt(), any());
+    verify(videoImportProducerService, never()).sendChunk(any());
+    verify(videoImportJobService, never()).startCheckpoint(any(), any(), anyLong(), any(), any());
+    verify(videoFeedStateRepository).save(any(VideoFeedState.class));
+  }
+
+  @Test
+  @DisplayName("Should fail partitioned import without saving feed state when a chunk failed")
+  void shouldFailPartitionedImportWithoutSavingFeedStateWhenChunkFailed() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final VideoImportChunkProgress progress = new VideoImportChunkProgress(new Key(traceId, "mockoon"));
+    progress.setFailedChunks(1);
+    progress.setError("Deadlock detected");
+
+    stubTransaction();
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.empty());
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(any())).thenReturn(feed);
+    when(feed.isModified()).thenReturn(true);
+    when(feed.conditions()).thenReturn(NEW_CONDITIONS);
+    when(videoFeedStateRepository.advanceFencingToken("mockoon", FENCING_TOKEN)).thenReturn(1);
+    doAnswer(invocation -> {
+      invocation.<Consumer<List<SourceVideoDto>>>getArgument(1).accept(List.of(createMockoonVideo("Video 1")));
+      return 1L;
+    }).when(feed).streamVideos(anyInt(), any());
+    when(videoImportJobService.awaitChunks(traceId, "mockoon", FENCING_TOKEN, 1, 1)).thenReturn(progress);
+
+    // When / Then
+    final VideoImportService service = createService(ImportMode.PARTITIONED, 10);
+    assertThatThrownBy(() -> service.importVideoFromSource(traceId, FENCING_TOKEN))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("1 of 1 mockoon import chunks failed: Deadlock detected");
+    verify(videoFeedStateRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Should upsert chunk and add its counts to the job")
+  void shouldUpsertChunkAndAddItsCountsToTheJob() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final SourceVideoDto mockoonVideo = createMockoonVideo("Video 1");
+    final VideoUpsertResult result = new VideoUpsertResult(1, 0, 0);
+
+    stubTransaction();
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(FENCING_TOKEN);
+    when(videoImportJobService.claimChunk(traceId, "mockoon", FENCING_TOKEN, 4)).thenReturn(true);
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo))).thenReturn(result);
+
+    // When
+    createService(ImportMode.PARTITIONED, 10)
+        .importChunk(new VideoImportChunkMessage(traceId, "mockoon", FENCING_TOKEN, 4, 0, List.of(mockoonVideo)));
+
+    // Then
+    verify(videoImportJobService).completeChunk(traceId, "mockoon", FENCING_TOKEN, result);
+  }
+
+  @Test
+  @DisplayName("Should skip redelivered chunk that was already counted")
+  void shouldSkipRedeliveredChunkThatWasAlreadyCounted() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    stubTransaction();
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(FENCING_TOKEN);
+    when(videoImportJobService.claimChunk(traceId, "mockoon", FENCING_TOKEN, 4)).thenReturn(false);
+
+    // When
+    createService(ImportMode.PARTITIONED, 10).importChunk(
+        new VideoImportChunkMessage(traceId, "mockoon", FENCING_TOKEN, 4, 0, List.of(createMockoonVideo("Video 1"))));
+
+    // Then
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+    verify(videoImportJobService, never()).completeChunk(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("Should fail chunk published under superseded fencing token")
+  void shouldFailChunkPublishedUnderSupersededFencingToken() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+
+    stubTransaction();
+    when(videoFeedStateRepository.findFencingTokenForShare("mockoon")).thenReturn(FENCING_TOKEN + 1);
+
+    // When
+    createService(ImportMode.PARTITIONED, 10).importChunk(
+        new VideoImportChunkMessage(traceId, "mockoon", FENCING_TOKEN, 4, 0, List.of(createMockoonVideo("Video 1"))));
+
+    // Then
+    verify(videoImportJobService).failChunk(eq(traceId), eq("mockoon"), eq(FENCING_TOKEN), eq(4),
+        failureCaptor.capture());
+    assertThat(failureCaptor.getValue()).hasMessage("Video import lease with fencing token 7 is stale");
+    verify(videoUpsertRepository, never()).upsertSourceVideos(any());
+    verify(videoImportJobService, never()).claimChunk(any(), any(), anyLong(), anyInt());
+    verify(videoImportJobService, never()).completeChunk(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("Should finish healthy connectors and rethrow failure of another connector")
+  void shouldFinishHealthyConnectorsAndRethrowFailureOfAnotherConnector() {
+    // Given
+    final SourceVideoDto mockoonVideo = createMockoonVideo("Video 1");
+
+    stubTransaction();
+    stubStreamedChunks(List.of(List.of(mockoonVideo)));
+    when(videoUpsertRepository.upsertSourceVideos(List.of(mockoonVideo)))
+        .thenReturn(new VideoUpsertResult(1, 0, 0));
+    stubConnector(otherConnector, "slow-provider");
+    when(videoFeedStateRepository.findById("slow-provider")).thenReturn(Optional.empty());
+    when(otherConnector.fetchVideos(any())).thenThrow(new IllegalStateException("Slow provider unavailable"));
+
+    // When / Then
+    final VideoImportService service = createService(List.of(otherConnector, connector), ImportMode.AUTO, 10);
+    assertThatThrownBy(() -> service.importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Slow provider unavailable");
+    verify(videoUpsertRepository).upsertSourceVideos(List.of(mockoonVideo));
+    verify(videoFeedStateRepository).save(stateCaptor.capture());
+    assertThat(stateCaptor.getValue().getFeed()).isEqualTo("mockoon");
+  }
+
+  @Test
+  @DisplayName("Should not fetch connector whose bulkhead is full")
+  void shouldNotFetchConnectorWhoseBulkheadIsFull() {
+    // Given
+    final Bulkhead bulkhead = Bulkhead.of("mockoon", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+    bulkhead.acquirePermission();
+    when(connector.bulkhead()).thenReturn(bulkhead);
+
+    // When / Then
+    final VideoImportService service = createService(ImportMode.AUTO, 10);
+    assertThatThrownBy(() -> service.importVideoFromSource(UUID.randomUUID(), FENCING_TOKEN))
+        .isInstanceOf(BulkheadFullException.class);
+    verify(connector, never()).fetchVideos(any());
+  }
+
+  private VideoImportService createService(final ImportMode mode, final int bulkThreshold) {
+    return createService(List.of(connector), mode, bulkThreshold);
+  }
+
+  private VideoImportService createService(final List<VideoSourceConnector> connectors, final ImportMode mode,
+      final int bulkThreshold) {
+    return new VideoImportService(connectors, videoUpsertRepository, videoBulkLoadRepository,
+        videoFeedStateRepository, videoImportProducerService, videoImportJobService, transactionTemplate,
+        new VideoImportProperties(2, 500, mode, bulkThreshold),
+        new VideoImportPartitionProperties(2, 0, 0, 0, Duration.ofMinutes(1), Duration.ofMillis(1)),
+        new VideoImportPipelineProperties(0, 0), new VideoImportPipelineMetrics(new SimpleMeterRegistry()),
+        videoCatalogVersionService);
+  }
+
+  private void stubConnector(final VideoSourceConnector sourceConnector, final String name) {
+    when(sourceConnector.name()).thenReturn(name);
+    when(sourceConnector.fetchStrategy()).thenReturn(FetchStrategy.STREAMING);
+    when(sourceConnector.bulkhead()).thenReturn(Bulkhead.ofDefaults(name));
+  }
+
+  private VideoFeedState storedState() {
+    final VideoFeedState state = new VideoFeedState("mockoon");
+    state.setEtag(OLD_CONDITIONS.etag());
+    state.setLastModified(OLD_CONDITIONS.lastModified());
+    state.setCursor(OLD_CONDITIONS.cursor());
+    state.setFingerprint("old-fingerprint");
+    return state;
+  }
+
+  private void stubModifiedFeed(final String fingerprint, final SourceFeedConditions conditions) {
+    stubModifiedFeed(fingerprint, conditions, FENCING_TOKEN);
+  }
+
+  private void stubModifiedFeed(final String fingerprint, final SourceFeedConditions conditions,
+      final long fencingToken) {
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.empty());
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(any())).thenReturn(feed);
+    when(feed.isModified()).thenReturn(true);
+    when(feed.fingerprint()).thenReturn(fingerprint);
+    when(feed.conditions()).thenReturn(conditions);
+    when(videoFeedStateRepository.advanceFencingToken("mockoon", fencingToken)).thenReturn(1);
+  }
+
+  private void stubUnchangedFeed(final SourceFeedConditions conditions, final List<SourceVideoDto> videos) {
+    when(videoFeedStateRepository.findById("mockoon")).thenReturn(Optional.of(storedState()));
+    stubConnector(connector, "mockoon");
+    when(connector.fetchVideos(OLD_CONDITIONS)).thenReturn(feed);
+    when(feed.isModified()).thenReturn(true);
+    when(feed.fingerprint()).thenReturn("old-fingerprint");
+    when(feed.conditions()).thenReturn(conditions);
+    when(videoFeedStateRepository.advanceFencingToken("mockoon", FENCING_TOKEN)).thenReturn(1);
+    doAnswer(invocation -> {
+      invocation.<Consumer<List<SourceVideoDto>>>getArgument(1).accept(videos);
+      return (long) videos.size();
+    }).when(feed).streamVideos(anyInt(), any());
+  }
+
+  private void stubTransaction() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private void stubStreamedChunks(final List<List<SourceVideoDto>> chunks) {
+    stubStreamedChunks(chunks, FENCING_TOKEN);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubStreamedChunks(final List<List<SourceVideoDto>> chunks, final long fencingToken) {
+    stubModifiedFeed("new-fingerprint", NEW_CONDITIONS, fencingToken);
+    doAnswer(invocation -> {
+      final Consumer<List<SourceVideoDto>> chunkConsumer = invocation.getArgument(1);
+      chunks.forEach(chunkConsumer);
+      return chunks.stream().mapToLong(List::size).sum();
+    }).when(feed).streamVideos(anyInt(), any(Consumer.class));
+  }
+
+  private SourceVideoDto createMockoonVideo(final String title) {
+    return SourceVideoDto.builder()
+        .title(title)
+        .source("MockProvider")
+        .url("http://example.com/" + title)
+        .duration(180)
+        .uploadDate(LocalDate.now())
+        .build();
+  }
+}
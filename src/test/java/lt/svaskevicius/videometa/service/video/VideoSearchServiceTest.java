@@ -0,0 +1,148 @@
+package lt.svaskevicius.videometa.service.video;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lt.svaskevicius.videometa.config.properties.VideoSearchProperties;
+import lt.svaskevicius.videometa.dal.model.VideoChange;
+import lt.svaskevicius.videometa.dal.repository.VideoChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoSearchServiceTest {
+
+  private static final long SNAPSHOT_XMIN = 742;
+
+  @Mock
+  private VideoChangeRepository videoChangeRepository;
+
+  @TempDir
+  private Path indexPath;
+
+  private VideoSearchProperties properties;
+  private VideoSearchService videoSearchService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    properties = new VideoSearchProperties(indexPath, 100);
+    videoSearchService = new VideoSearchService(videoChangeRepository, properties);
+    videoSearchService.open();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    videoSearchService.close();
+  }
+
+  @Test
+  @DisplayName("Should find synced videos by title words, title prefix and source")
+  void shouldFindSyncedVideosByTitleWordsTitlePrefixAndSource() throws Exception {
+    // Given
+    final VideoChange springBoot = new VideoChange(UUID.randomUUID(), "Spring Boot Basics", "CodeAcademyX");
+    final VideoChange javaStreams = new VideoChange(UUID.randomUUID(), "Java Streams", "VideoLearnHub");
+    givenChanges(List.of(springBoot, javaStreams));
+
+    // When
+    final long indexed = videoSearchService.sync();
+
+    // Then
+    assertThat(indexed).isEqualTo(2);
+    assertThat(videoSearchService.search("spring BOOT").ids()).containsExactly(springBoot.id());
+    assertThat(videoSearchService.search("strea").ids()).containsExactly(javaStreams.id());
+    assertThat(videoSearchService.search("videolearnhub").ids()).containsExactly(javaStreams.id());
+    assertThat(videoSearchService.search("kotlin").ids()).isEmpty();
+    assertThat(videoSearchService.search("!!!").ids()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should keep index on disk and resume sync from last synced change after reopening")
+  void shouldKeepIndexOnDiskAndResumeSyncFromLastSyncedChangeAfterReopening() throws Exception {
+    // Given
+    final VideoChange video = new VideoChange(UUID.randomUUID(), "Docker for Beginners", "MockProvider");
+    givenChanges(List.of(video));
+    videoSearchService.sync();
+    videoSearchService.close();
+
+    // When
+    videoSearchService = new VideoSearchService(videoChangeRepository, properties);
+    videoSearchService.open();
+    givenChanges(List.of());
+    videoSearchService.sync();
+
+    // Then
+    assertThat(videoSearchService.search("docker").ids()).containsExactly(video.id());
+    verify(videoChangeRepository).forEachWrittenSince(eq(SNAPSHOT_XMIN), any());
+  }
+
+  @Test
+  @DisplayName("Should resume sync from oldest running transaction to pick up late commits")
+  void shouldResumeSyncFromOldestRunningTransactionToPickUpLateCommits() throws Exception {
+    // Given
+    final VideoChange early = new VideoChange(UUID.randomUUID(), "Kotlin Coroutines", "CodeAcademyX");
+    final VideoChange late = new VideoChange(UUID.randomUUID(), "Docker for Beginners", "MockProvider");
+    givenChanges(List.of(early), SNAPSHOT_XMIN);
+    videoSearchService.sync();
+    givenChanges(List.of(late), SNAPSHOT_XMIN + 5);
+
+    // When
+    final long indexed = videoSearchService.sync();
+
+    // Then
+    assertThat(indexed).isEqualTo(1);
+    assertThat(videoSearchService.search("docker").ids()).containsExactly(late.id());
+    assertThat(videoSearchService.search("kotlin").ids()).containsExactly(early.id());
+    verify(videoChangeRepository).forEachWrittenSince(eq(0L), any());
+    verify(videoChangeRepository).forEachWrittenSince(eq(SNAPSHOT_XMIN), any());
+  }
+
+  @Test
+  @DisplayName("Should flag hits as truncated when more videos match than max hits")
+  void shouldFlagHitsAsTruncatedWhenMoreVideosMatchThanMaxHits() throws Exception {
+    // Given
+    givenChanges(List.of(
+        new VideoChange(UUID.randomUUID(), "Spring Boot Basics", "CodeAcademyX"),
+        new VideoChange(UUID.randomUUID(), "Spring Security", "CodeAcademyX"),
+        new VideoChange(UUID.randomUUID(), "Spring Data", "CodeAcademyX")));
+    videoSearchService.sync();
+    videoSearchService.close();
+    videoSearchService = new VideoSearchService(videoChangeRepository,
+        new VideoSearchProperties(indexPath, 2));
+    videoSearchService.open();
+
+    // When
+    final VideoSearchHits spring = videoSearchService.search("spring");
+    final VideoSearchHits security = videoSearchService.search("security");
+
+    // Then
+    assertThat(spring.ids()).hasSize(2);
+    assertThat(spring.truncated()).isTrue();
+    assertThat(security.ids()).hasSize(1);
+    assertThat(security.truncated()).isFalse();
+  }
+
+  private void givenChanges(final List<VideoChange> changes) {
+    givenChanges(changes, SNAPSHOT_XMIN);
+  }
+
+  private void givenChanges(final List<VideoChange> changes, final long snapshotXmin) {
+    doAnswer(invocation -> {
+      changes.forEach(invocation.<Consumer<VideoChange>>getArgument(1));
+      return snapshotXmin;
+    }).when(videoChangeRepository).forEachWrittenSince(anyLong(), any());
+  }
+}
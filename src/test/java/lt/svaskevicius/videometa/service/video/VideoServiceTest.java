@@ -4,8 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -15,13 +16,13 @@ import java.util.Optional;
 import java.util.UUID;
 import lt.svaskevicius.videometa.dal.model.Video;
 import lt.svaskevicius.videometa.dal.model.VideoStatistics;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
 import lt.svaskevicius.videometa.dal.repository.VideoRepository;
 import lt.svaskevicius.videometa.dal.repository.VideoStatisticRepository;
+import lt.svaskevicius.videometa.dal.repository.VideoSummaryRepository;
 import lt.svaskevicius.videometa.exception.VideoMetaException;
 import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
-import lt.svaskevicius.videometa.integration.mockoon.MockoonClient;
-import lt.svaskevicius.videometa.integration.mockoon.model.MockoonVideoDto;
-import lt.svaskevicius.videometa.service.mapper.MockoonVideoMapper;
+import lt.svaskevicius.videometa.web.model.CountMode;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,82 +47,42 @@ class VideoServiceTest {
   private VideoRepository videoRepository;
 
   @Mock
-  private MockoonClient mockoonClient;
+  private VideoSummaryRepository videoSummaryRepository;
 
   @Mock
-  private MockoonVideoMapper mockoonVideoMapper;
+  private VideoStatisticRepository videoStatisticRepository;
 
   @Mock
-  private VideoStatisticRepository videoStatisticRepository;
+  private VideoCountService videoCountService;
+
+  @Mock
+  private VideoSearchService videoSearchService;
 
   @InjectMocks
   private VideoService videoService;
 
-  @Test
-  @DisplayName("Should import videos from source successfully")
-  void shouldImportVideosFromSourceSuccessfully() {
-    // Given
-    final UUID traceId = UUID.randomUUID();
-    final MockoonVideoDto mockoonVideo1 = createMockoonVideo("Video 1", "source1");
-    final MockoonVideoDto mockoonVideo2 = createMockoonVideo("Video 2", "source2");
-    final List<MockoonVideoDto> mockoonVideos = Arrays.asList(mockoonVideo1, mockoonVideo2);
-
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "source1");
-    final Video video2 = createVideo(UUID.randomUUID(), "Video 2", "source2");
-
-    when(mockoonClient.getVideos()).thenReturn(mockoonVideos);
-    when(mockoonVideoMapper.toVideo(mockoonVideo1)).thenReturn(video1);
-    when(mockoonVideoMapper.toVideo(mockoonVideo2)).thenReturn(video2);
-
-    // When
-    videoService.importVideoFromSource(traceId);
-
-    // Then
-    verify(mockoonClient).getVideos();
-    verify(mockoonVideoMapper).toVideo(mockoonVideo1);
-    verify(mockoonVideoMapper).toVideo(mockoonVideo2);
-    verify(videoRepository).upsertVideo(video1);
-    verify(videoRepository).upsertVideo(video2);
-  }
-
-  @Test
-  @DisplayName("Should handle empty video list from source")
-  void shouldHandleEmptyVideoListFromSource() {
-    // Given
-    final UUID traceId = UUID.randomUUID();
-    when(mockoonClient.getVideos()).thenReturn(List.of());
-
-    // When
-    videoService.importVideoFromSource(traceId);
-
-    // Then
-    verify(mockoonClient).getVideos();
-    verify(mockoonVideoMapper, times(0)).toVideo(any());
-    verify(videoRepository, times(0)).upsertVideo(any());
-  }
-
   @Test
   @DisplayName("Should get videos with pagination successfully when no filters applied")
   void shouldGetVideosWithPaginationSuccessfullyWhenNoFiltersApplied() {
     // Given
     final Pageable pageable = PageRequest.of(0, 10);
     final VideoFilterDto filterDto = VideoFilterDto.builder().build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "source1");
-    final Video video2 = createVideo(UUID.randomUUID(), "Video 2", "source2");
-    final List<Video> videos = Arrays.asList(video1, video2);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 2);
+    final VideoSummary video1 = createVideoSummary("Video 1", "source1", 180, LocalDate.now());
+    final VideoSummary video2 = createVideoSummary("Video 2", "source2", 180, LocalDate.now());
+    final List<VideoSummary> videos = Arrays.asList(video1, video2);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 2);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(videoPage);
-    assertThat(result.getContent()).hasSize(2);
-    assertThat(result.getContent()).contains(video1, video2);
-    assertThat(result.getTotalElements()).isEqualTo(2);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(videoPage);
+    assertThat(result.videos().getContent()).hasSize(2);
+    assertThat(result.videos().getContent()).contains(video1, video2);
+    assertThat(result.totalElements()).isEqualTo(2);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -128,21 +93,21 @@ class VideoServiceTest {
     final VideoFilterDto filterDto = VideoFilterDto.builder()
         .source("youtube")
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "youtube");
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Video 1", "youtube", 180, LocalDate.now());
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(videoPage);
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getSource()).isEqualTo("youtube");
-    assertThat(result.getTotalElements()).isEqualTo(1);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(videoPage);
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).source()).isEqualTo("youtube");
+    assertThat(result.totalElements()).isEqualTo(1);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -156,22 +121,21 @@ class VideoServiceTest {
         .uploadDateFrom(fromDate)
         .uploadDateTo(toDate)
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "source1");
-    video1.setUploadDate(LocalDate.of(2024, 6, 15));
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Video 1", "source1", 180, LocalDate.of(2024, 6, 15));
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(videoPage);
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getUploadDate()).isEqualTo(LocalDate.of(2024, 6, 15));
-    assertThat(result.getTotalElements()).isEqualTo(1);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(videoPage);
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).uploadDate()).isEqualTo(LocalDate.of(2024, 6, 15));
+    assertThat(result.totalElements()).isEqualTo(1);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -183,22 +147,21 @@ class VideoServiceTest {
         .durationFrom(60)
         .durationTo(300)
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "source1");
-    video1.setDuration(180);
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Video 1", "source1", 180, LocalDate.now());
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(videoPage);
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getDuration()).isEqualTo(180);
-    assertThat(result.getTotalElements()).isEqualTo(1);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(videoPage);
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).duration()).isEqualTo(180);
+    assertThat(result.totalElements()).isEqualTo(1);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -215,25 +178,23 @@ class VideoServiceTest {
         .durationFrom(60)
         .durationTo(300)
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Video 1", "youtube");
-    video1.setUploadDate(LocalDate.of(2024, 6, 15));
-    video1.setDuration(180);
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Video 1", "youtube", 180, LocalDate.of(2024, 6, 15));
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(videoPage);
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getSource()).isEqualTo("youtube");
-    assertThat(result.getContent().get(0).getUploadDate()).isEqualTo(LocalDate.of(2024, 6, 15));
-    assertThat(result.getContent().get(0).getDuration()).isEqualTo(180);
-    assertThat(result.getTotalElements()).isEqualTo(1);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(videoPage);
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).source()).isEqualTo("youtube");
+    assertThat(result.videos().getContent().get(0).uploadDate()).isEqualTo(LocalDate.of(2024, 6, 15));
+    assertThat(result.videos().getContent().get(0).duration()).isEqualTo(180);
+    assertThat(result.totalElements()).isEqualTo(1);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -244,18 +205,18 @@ class VideoServiceTest {
     final VideoFilterDto filterDto = VideoFilterDto.builder()
         .source("nonexistent")
         .build();
-    final Page<Video> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+    final Page<VideoSummary> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(emptyPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(emptyPage);
-    assertThat(result.getContent()).isEmpty();
-    assertThat(result.getTotalElements()).isEqualTo(0);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(emptyPage);
+    assertThat(result.videos().getContent()).isEmpty();
+    assertThat(result.totalElements()).isEqualTo(0);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -264,18 +225,18 @@ class VideoServiceTest {
     // Given
     final Pageable pageable = PageRequest.of(0, 10);
     final VideoFilterDto filterDto = VideoFilterDto.builder().build();
-    final Page<Video> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+    final Page<VideoSummary> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(emptyPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(emptyPage);
-    assertThat(result.getContent()).isEmpty();
-    assertThat(result.getTotalElements()).isEqualTo(0);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos()).isEqualTo(emptyPage);
+    assertThat(result.videos().getContent()).isEmpty();
+    assertThat(result.totalElements()).isEqualTo(0);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -358,18 +319,18 @@ class VideoServiceTest {
     final VideoFilterDto filterDto = VideoFilterDto.builder()
         .source("youtube")
         .build();
-    final Page<Video> emptyPage = new PageImpl<>(List.of(), largePage, 0);
+    final Page<VideoSummary> emptyPage = new PageImpl<>(List.of(), largePage, 0);
 
-    when(videoRepository.findAll(any(Specification.class), eq(largePage))).thenReturn(emptyPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(largePage))).thenReturn(emptyPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(largePage, filterDto);
+    final VideoPage result = videoService.getVideos(largePage, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result).isEqualTo(emptyPage);
-    assertThat(result.getNumber()).isEqualTo(10);
-    assertThat(result.getSize()).isEqualTo(100);
-    verify(videoRepository).findAll(any(Specification.class), eq(largePage));
+    assertThat(result.videos()).isEqualTo(emptyPage);
+    assertThat(result.videos().getNumber()).isEqualTo(10);
+    assertThat(result.videos().getSize()).isEqualTo(100);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(largePage));
   }
 
   @Test
@@ -380,20 +341,19 @@ class VideoServiceTest {
     final VideoFilterDto filterDto = VideoFilterDto.builder()
         .durationFrom(120)
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Long Video", "source1");
-    video1.setDuration(300);
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Long Video", "source1", 300, LocalDate.now());
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getDuration()).isEqualTo(300);
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).duration()).isEqualTo(300);
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
   @Test
@@ -405,30 +365,140 @@ class VideoServiceTest {
     final VideoFilterDto filterDto = VideoFilterDto.builder()
         .uploadDateFrom(fromDate)
         .build();
-    final Video video1 = createVideo(UUID.randomUUID(), "Recent Video", "source1");
-    video1.setUploadDate(LocalDate.of(2024, 8, 15));
-    final List<Video> videos = Arrays.asList(video1);
-    final Page<Video> videoPage = new PageImpl<>(videos, pageable, 1);
+    final VideoSummary video1 = createVideoSummary("Recent Video", "source1", 180, LocalDate.of(2024, 8, 15));
+    final List<VideoSummary> videos = Arrays.asList(video1);
+    final Page<VideoSummary> videoPage = new PageImpl<>(videos, pageable, 1);
 
-    when(videoRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(videoPage);
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable))).thenReturn(videoPage);
 
     // When
-    final Page<Video> result = videoService.getVideos(pageable, filterDto);
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
 
     // Then
-    assertThat(result.getContent()).hasSize(1);
-    assertThat(result.getContent().get(0).getUploadDate()).isEqualTo(LocalDate.of(2024, 8, 15));
-    verify(videoRepository).findAll(any(Specification.class), eq(pageable));
+    assertThat(result.videos().getContent()).hasSize(1);
+    assertThat(result.videos().getContent().get(0).uploadDate()).isEqualTo(LocalDate.of(2024, 8, 15));
+    verify(videoSummaryRepository).findPage(anySpecification(), eq(pageable));
   }
 
-  private MockoonVideoDto createMockoonVideo(final String title, final String source) {
-    return MockoonVideoDto.builder()
-        .title(title)
-        .source(source)
-        .url("http://example.com/video")
-        .duration(180)
-        .uploadDate(LocalDate.now())
-        .build();
+  @Test
+  @DisplayName("Should get videos as slice without counting when count mode is none")
+  void shouldGetVideosAsSliceWithoutCountingWhenCountModeIsNone() {
+    // Given
+    final Pageable pageable = PageRequest.of(3, 10);
+    final Slice<VideoSummary> videoSlice = new SliceImpl<>(
+        List.of(createVideoSummary("Video 1", "source1", 180, LocalDate.now())), pageable, true);
+    when(videoSummaryRepository.findSlice(anySpecification(), eq(pageable))).thenReturn(videoSlice);
+
+    // When
+    final VideoPage result = videoService.getVideos(pageable, VideoFilterDto.builder().build(), CountMode.NONE);
+
+    // Then
+    assertThat(result).isEqualTo(new VideoPage(videoSlice, null, CountMode.NONE, false));
+    verify(videoRepository, never()).count(anySpecification());
+    verifyNoInteractions(videoCountService);
+  }
+
+  @Test
+  @DisplayName("Should get cached count for normalized filter when count mode is cached")
+  void shouldGetCachedCountForNormalizedFilterWhenCountModeIsCached() {
+    // Given
+    final Pageable pageable = PageRequest.of(0, 10);
+    final VideoFilterDto filterDto = VideoFilterDto.builder().source("YouTube").durationFrom(60).build();
+    final Slice<VideoSummary> videoSlice = new SliceImpl<>(List.of(), pageable, false);
+    when(videoSummaryRepository.findSlice(anySpecification(), eq(pageable))).thenReturn(videoSlice);
+    when(videoCountService.getCachedCount(eq(VideoFilterDto.builder().source("youtube").durationFrom(60).build()),
+        anySpecification())).thenReturn(42L);
+
+    // When
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.CACHED);
+
+    // Then
+    assertThat(result.totalElements()).isEqualTo(42L);
+    assertThat(result.countMode()).isEqualTo(CountMode.CACHED);
+  }
+
+  @Test
+  @DisplayName("Should get planner estimate when count mode is estimated")
+  void shouldGetPlannerEstimateWhenCountModeIsEstimated() {
+    // Given
+    final Pageable pageable = PageRequest.of(0, 10);
+    final VideoFilterDto filterDto = VideoFilterDto.builder().uploadDateFrom(LocalDate.of(2024, 1, 1)).build();
+    when(videoSummaryRepository.findSlice(anySpecification(), eq(pageable)))
+        .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+    when(videoCountService.getEstimatedCount(filterDto)).thenReturn(1800L);
+
+    // When
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.ESTIMATED);
+
+    // Then
+    assertThat(result.totalElements()).isEqualTo(1800L);
+    verify(videoRepository, never()).count(anySpecification());
+  }
+
+  @Test
+  @DisplayName("Should restrict videos to search hits and count them exactly when query is given")
+  void shouldRestrictVideosToSearchHitsAndCountThemExactlyWhenQueryIsGiven() {
+    // Given
+    final Pageable pageable = PageRequest.of(0, 10);
+    final VideoFilterDto filterDto = VideoFilterDto.builder().query("spring boot").durationFrom(60).build();
+    final VideoSummary video = createVideoSummary("Spring Boot in depth", "youtube", 180, LocalDate.now());
+    when(videoSearchService.search("spring boot")).thenReturn(new VideoSearchHits(List.of(video.id()), false));
+    when(videoSummaryRepository.findSlice(anySpecification(), eq(pageable)))
+        .thenReturn(new SliceImpl<>(List.of(video), pageable, false));
+    when(videoRepository.count(anySpecification())).thenReturn(1L);
+
+    // When
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.ESTIMATED);
+
+    // Then
+    assertThat(result.videos().getContent()).containsExactly(video);
+    assertThat(result.totalElements()).isEqualTo(1L);
+    verify(videoSearchService).search("spring boot");
+    verifyNoInteractions(videoCountService);
+  }
+
+  @Test
+  @DisplayName("Should flag page as truncated when search hits exceed the cap")
+  void shouldFlagPageAsTruncatedWhenSearchHitsExceedTheCap() {
+    // Given
+    final Pageable pageable = PageRequest.of(0, 10);
+    final VideoFilterDto filterDto = VideoFilterDto.builder().query("spring").build();
+    final VideoSummary video = createVideoSummary("Spring Boot in depth", "youtube", 180, LocalDate.now());
+    when(videoSearchService.search("spring")).thenReturn(new VideoSearchHits(List.of(video.id()), true));
+    when(videoSummaryRepository.findPage(anySpecification(), eq(pageable)))
+        .thenReturn(new PageImpl<>(List.of(video), pageable, 1));
+
+    // When
+    final VideoPage result = videoService.getVideos(pageable, filterDto, CountMode.EXACT);
+
+    // Then
+    assertThat(result.truncated()).isTrue();
+    assertThat(result.totalElements()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should fetch one extra row to detect the next cursor page")
+  void shouldFetchOneExtraRowToDetectTheNextCursorPage() {
+    // Given
+    final VideoCursor cursor = VideoCursor.first(VideoSortKey.DURATION, Direction.ASC);
+    final VideoSummary video1 = createVideoSummary("Video 1", "source1", 180, LocalDate.now());
+    final VideoSummary video2 = createVideoSummary("Video 2", "source1", 180, LocalDate.now());
+    final VideoSummary video3 = createVideoSummary("Video 3", "source1", 180, LocalDate.now());
+    when(videoSummaryRepository.findAll(anySpecification(), eq(cursor.sort()), eq(3)))
+        .thenReturn(List.of(video1, video2, video3));
+
+    // When
+    final Slice<VideoSummary> result = videoService.getVideosAfter(cursor, 2, VideoFilterDto.builder().build())
+        .videos();
+
+    // Then
+    assertThat(result.getContent()).containsExactly(video1, video2);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.getSort()).isEqualTo(Sort.by(Direction.ASC, "duration", "id"));
+  }
+
+  private static Specification<Video> anySpecification() {
+    return any();
   }
 
   private Video createVideo(final UUID id, final String title, final String source) {
@@ -442,6 +512,11 @@ class VideoServiceTest {
     return video;
   }
 
+  private VideoSummary createVideoSummary(final String title, final String source, final int duration,
+      final LocalDate uploadDate) {
+    return new VideoSummary(UUID.randomUUID(), title, source, "http://example.com/video", duration, uploadDate);
+  }
+
   private VideoStatistics createVideoStatistics(final String source, final Long totalVideos,
       final Double averageDuration) {
     final VideoStatistics stats = new VideoStatistics();
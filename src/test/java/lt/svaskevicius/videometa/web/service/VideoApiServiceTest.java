@@ -3,26 +3,47 @@ package lt.svaskevicius.videometa.web.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import lt.svaskevicius.videometa.dal.model.Video;
+import lt.svaskevicius.videometa.dal.model.VideoImportJob;
 import lt.svaskevicius.videometa.dal.model.VideoStatistics;
+import lt.svaskevicius.videometa.dal.model.VideoSummary;
 import lt.svaskevicius.videometa.exception.VideoMetaException;
 import lt.svaskevicius.videometa.exception.VideoMetaException.VideoMetaErrorCode;
+import lt.svaskevicius.videometa.mapper.VideoImportJobMapper;
 import lt.svaskevicius.videometa.mapper.VideoMapper;
 import lt.svaskevicius.videometa.mapper.VideoStatisticsMapper;
 import lt.svaskevicius.videometa.service.identity.CurrentUserService;
+import lt.svaskevicius.videometa.service.video.VideoCatalogVersionService;
+import lt.svaskevicius.videometa.service.video.VideoCursor;
+import lt.svaskevicius.videometa.service.video.VideoImportCoordinator;
+import lt.svaskevicius.videometa.service.video.VideoImportJobService;
 import lt.svaskevicius.videometa.service.video.VideoImportProducerService;
+import lt.svaskevicius.videometa.service.video.VideoPage;
 import lt.svaskevicius.videometa.service.video.VideoService;
+import lt.svaskevicius.videometa.service.video.VideoSortKey;
+import lt.svaskevicius.videometa.web.model.CountMode;
 import lt.svaskevicius.videometa.web.model.SortDirection;
+import lt.svaskevicius.videometa.web.model.video.VideoCursorPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoFilterDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportJobResponseDto.StageDto;
+import lt.svaskevicius.videometa.web.model.video.VideoImportResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoPageResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoResponseDto;
 import lt.svaskevicius.videometa.web.model.video.VideoStatisticsResponseDto;
@@ -34,11 +55,16 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 @ExtendWith(MockitoExtension.class)
 class VideoApiServiceTest {
@@ -46,6 +72,12 @@ class VideoApiServiceTest {
   @Mock
   private VideoImportProducerService videoImportProducerService;
 
+  @Mock
+  private VideoImportCoordinator videoImportCoordinator;
+
+  @Mock
+  private VideoImportJobService videoImportJobService;
+
   @Mock
   private VideoService videoService;
 
@@ -55,9 +87,24 @@ class VideoApiServiceTest {
   @Mock
   private VideoStatisticsMapper videoStatisticsMapper;
 
+  @Mock
+  private VideoImportJobMapper videoImportJobMapper;
+
   @Mock
   private CurrentUserService currentUserService;
 
+  @Mock
+  private VideoCatalogVersionService videoCatalogVersionService;
+
+  @Mock
+  private CacheManager cacheManager;
+
+  @Mock
+  private ObjectMapper objectMapper;
+
+  @Mock
+  private Cache cache;
+
   @InjectMocks
   private VideoApiService videoApiService;
 
@@ -70,13 +117,67 @@ class VideoApiServiceTest {
     // Given
     final UUID currentUserId = UUID.randomUUID();
     when(currentUserService.getCurrentUserId()).thenReturn(currentUserId);
+    when(videoImportCoordinator.claimJob(any(UUID.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     // When
-    videoApiService.importVideos();
+    final VideoImportResponseDto result = videoApiService.importVideos();
 
     // Then
     verify(currentUserService).getCurrentUserId();
-    verify(videoImportProducerService).sendToQueue(any(UUID.class));
+    verify(videoImportJobService).createQueued(result.traceId(), currentUserId);
+    verify(videoImportProducerService).sendToQueue(result.traceId());
+  }
+
+  @Test
+  @DisplayName("Should release claimed job when import cannot be enqueued")
+  void shouldReleaseClaimedJobWhenImportCannotBeEnqueued() {
+    // Given
+    final UUID currentUserId = UUID.randomUUID();
+    final AmqpConnectException failure = new AmqpConnectException(new IOException("Broker unavailable"));
+    when(currentUserService.getCurrentUserId()).thenReturn(currentUserId);
+    when(videoImportCoordinator.claimJob(any(UUID.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    doThrow(failure).when(videoImportProducerService).sendToQueue(any(UUID.class));
+
+    // When / Then
+    assertThatThrownBy(() -> videoApiService.importVideos()).isSameAs(failure);
+    final ArgumentCaptor<UUID> traceIdCaptor = ArgumentCaptor.forClass(UUID.class);
+    verify(videoImportJobService).createQueued(traceIdCaptor.capture(), eq(currentUserId));
+    verify(videoImportCoordinator).releaseJob(traceIdCaptor.getValue());
+  }
+
+  @Test
+  @DisplayName("Should attach to in-flight import without enqueueing")
+  void shouldAttachToInFlightImportWithoutEnqueueing() {
+    // Given
+    final UUID inFlightTraceId = UUID.randomUUID();
+    when(currentUserService.getCurrentUserId()).thenReturn(UUID.randomUUID());
+    when(videoImportCoordinator.claimJob(any(UUID.class))).thenReturn(inFlightTraceId);
+
+    // When
+    final VideoImportResponseDto result = videoApiService.importVideos();
+
+    // Then
+    assertThat(result.traceId()).isEqualTo(inFlightTraceId);
+    verify(videoImportJobService, never()).createQueued(any(), any());
+    verify(videoImportProducerService, never()).sendToQueue(any());
+  }
+
+  @Test
+  @DisplayName("Should get import job by trace id")
+  void shouldGetImportJobByTraceId() {
+    // Given
+    final UUID traceId = UUID.randomUUID();
+    final VideoImportJob job = new VideoImportJob(traceId);
+    final VideoImportJobResponseDto expectedResponse = new VideoImportJobResponseDto(traceId, "SUCCEEDED", 10, 4, 3,
+        3, new StageDto(50, 200), new StageDto(10, 1000), new StageDto(40, 250), 100, 100, null, null, null, null);
+    when(videoImportJobService.getJob(traceId)).thenReturn(job);
+    when(videoImportJobMapper.toVideoImportJobResponseDto(job)).thenReturn(expectedResponse);
+
+    // When
+    final VideoImportJobResponseDto result = videoApiService.getImportJob(traceId);
+
+    // Then
+    assertThat(result).isEqualTo(expectedResponse);
   }
 
   @Test
@@ -89,15 +190,17 @@ class VideoApiServiceTest {
     final SortDirection sortDirection = SortDirection.ASC;
     final String source = "youtube";
 
-    final Video video1 = createVideo(UUID.randomUUID(), "YouTube Video", "youtube");
-    final List<Video> videos = List.of(video1);
+    final VideoSummary video1 = createVideoSummary("YouTube Video", "youtube", 180, LocalDate.now());
+    final List<VideoSummary> videos = List.of(video1);
     final Pageable expectedPageable = PageRequest.of(page, size, Sort.by(sortBy).ascending());
-    final Page<Video> videoPage = new PageImpl<>(videos, expectedPageable, 1);
+    final VideoPage videoPage = new VideoPage(new PageImpl<>(videos, expectedPageable, 1), 1L, CountMode.EXACT,
+        false);
 
-    final VideoResponseDto dto1 = createVideoResponseDto(video1.getId(), "YouTube Video");
+    final VideoResponseDto dto1 = createVideoResponseDto(video1.id(), "YouTube Video");
     final VideoPageResponseDto expectedResponse = createVideoPageResponseDto(List.of(dto1), 1);
 
-    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class))).thenReturn(videoPage);
+    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class), eq(CountMode.EXACT)))
+        .thenReturn(videoPage);
     when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(expectedResponse);
 
     final VideoFilterDto filter = VideoFilterDto.builder()
@@ -105,11 +208,12 @@ class VideoApiServiceTest {
         .build();
 
     // When
-    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter);
+    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter,
+        CountMode.EXACT);
 
     // Then
     assertThat(result).isEqualTo(expectedResponse);
-    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture());
+    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture(), eq(CountMode.EXACT));
     verify(videoMapper).toVideoPageResponseDto(videoPage);
 
     final VideoFilterDto capturedFilter = filterCaptor.getValue();
@@ -131,16 +235,17 @@ class VideoApiServiceTest {
     final LocalDate uploadDateFrom = LocalDate.of(2024, 1, 1);
     final LocalDate uploadDateTo = LocalDate.of(2024, 12, 31);
 
-    final Video video1 = createVideo(UUID.randomUUID(), "2024 Video", "source1");
-    video1.setUploadDate(LocalDate.of(2024, 6, 15));
-    final List<Video> videos = List.of(video1);
+    final VideoSummary video1 = createVideoSummary("2024 Video", "source1", 180, LocalDate.of(2024, 6, 15));
+    final List<VideoSummary> videos = List.of(video1);
     final Pageable expectedPageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
-    final Page<Video> videoPage = new PageImpl<>(videos, expectedPageable, 1);
+    final VideoPage videoPage = new VideoPage(new PageImpl<>(videos, expectedPageable, 1), 1L, CountMode.EXACT,
+        false);
 
-    final VideoResponseDto dto1 = createVideoResponseDto(video1.getId(), "2024 Video");
+    final VideoResponseDto dto1 = createVideoResponseDto(video1.id(), "2024 Video");
     final VideoPageResponseDto expectedResponse = createVideoPageResponseDto(List.of(dto1), 1);
 
-    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class))).thenReturn(videoPage);
+    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class), eq(CountMode.EXACT)))
+        .thenReturn(videoPage);
     when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(expectedResponse);
 
     final VideoFilterDto filter = VideoFilterDto.builder()
@@ -149,11 +254,12 @@ class VideoApiServiceTest {
         .build();
 
     // When
-    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter);
+    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter,
+        CountMode.EXACT);
 
     // Then
     assertThat(result).isEqualTo(expectedResponse);
-    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture());
+    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture(), eq(CountMode.EXACT));
     verify(videoMapper).toVideoPageResponseDto(videoPage);
 
     final VideoFilterDto capturedFilter = filterCaptor.getValue();
@@ -175,16 +281,17 @@ class VideoApiServiceTest {
     final Integer durationFrom = 60;
     final Integer durationTo = 300;
 
-    final Video video1 = createVideo(UUID.randomUUID(), "Short Video", "source1");
-    video1.setDuration(180);
-    final List<Video> videos = List.of(video1);
+    final VideoSummary video1 = createVideoSummary("Short Video", "source1", 180, LocalDate.now());
+    final List<VideoSummary> videos = List.of(video1);
     final Pageable expectedPageable = PageRequest.of(page, size, Sort.by(sortBy).ascending());
-    final Page<Video> videoPage = new PageImpl<>(videos, expectedPageable, 1);
+    final VideoPage videoPage = new VideoPage(new PageImpl<>(videos, expectedPageable, 1), 1L, CountMode.EXACT,
+        false);
 
-    final VideoResponseDto dto1 = createVideoResponseDto(video1.getId(), "Short Video");
+    final VideoResponseDto dto1 = createVideoResponseDto(video1.id(), "Short Video");
     final VideoPageResponseDto expectedResponse = createVideoPageResponseDto(List.of(dto1), 1);
 
-    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class))).thenReturn(videoPage);
+    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class), eq(CountMode.EXACT)))
+        .thenReturn(videoPage);
     when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(expectedResponse);
 
     final VideoFilterDto filter = VideoFilterDto.builder()
@@ -193,11 +300,12 @@ class VideoApiServiceTest {
         .build();
 
     // When
-    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter);
+    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter,
+        CountMode.EXACT);
 
     // Then
     assertThat(result).isEqualTo(expectedResponse);
-    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture());
+    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture(), eq(CountMode.EXACT));
     verify(videoMapper).toVideoPageResponseDto(videoPage);
 
     final VideoFilterDto capturedFilter = filterCaptor.getValue();
@@ -222,17 +330,17 @@ class VideoApiServiceTest {
     final Integer durationFrom = 60;
     final Integer durationTo = 300;
 
-    final Video video1 = createVideo(UUID.randomUUID(), "Filtered Video", "youtube");
-    video1.setUploadDate(LocalDate.of(2024, 6, 15));
-    video1.setDuration(180);
-    final List<Video> videos = List.of(video1);
+    final VideoSummary video1 = createVideoSummary("Filtered Video", "youtube", 180, LocalDate.of(2024, 6, 15));
+    final List<VideoSummary> videos = List.of(video1);
     final Pageable expectedPageable = PageRequest.of(page, size, Sort.by(sortBy).ascending());
-    final Page<Video> videoPage = new PageImpl<>(videos, expectedPageable, 1);
+    final VideoPage videoPage = new VideoPage(new PageImpl<>(videos, expectedPageable, 1), 1L, CountMode.EXACT,
+        false);
 
-    final VideoResponseDto dto1 = createVideoResponseDto(video1.getId(), "Filtered Video");
+    final VideoResponseDto dto1 = createVideoResponseDto(video1.id(), "Filtered Video");
     final VideoPageResponseDto expectedResponse = createVideoPageResponseDto(List.of(dto1), 1);
 
-    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class))).thenReturn(videoPage);
+    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class), eq(CountMode.EXACT)))
+        .thenReturn(videoPage);
     when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(expectedResponse);
 
     final VideoFilterDto filter = VideoFilterDto.builder()
@@ -244,11 +352,12 @@ class VideoApiServiceTest {
         .build();
 
     // When
-    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter);
+    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter,
+        CountMode.EXACT);
 
     // Then
     assertThat(result).isEqualTo(expectedResponse);
-    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture());
+    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture(), eq(CountMode.EXACT));
     verify(videoMapper).toVideoPageResponseDto(videoPage);
 
     final VideoFilterDto capturedFilter = filterCaptor.getValue();
@@ -352,15 +461,17 @@ class VideoApiServiceTest {
     final LocalDate uploadDateFrom = LocalDate.of(2024, 6, 1);
     final Integer durationFrom = 120;
 
-    final Video video = createVideo(UUID.randomUUID(), "Partial Filter Video", "source1");
-    final List<Video> videos = List.of(video);
+    final VideoSummary video = createVideoSummary("Partial Filter Video", "source1", 180, LocalDate.now());
+    final List<VideoSummary> videos = List.of(video);
     final Pageable expectedPageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
-    final Page<Video> videoPage = new PageImpl<>(videos, expectedPageable, 1);
+    final VideoPage videoPage = new VideoPage(new PageImpl<>(videos, expectedPageable, 1), 1L, CountMode.EXACT,
+        false);
 
-    final VideoResponseDto dto = createVideoResponseDto(video.getId(), "Partial Filter Video");
+    final VideoResponseDto dto = createVideoResponseDto(video.id(), "Partial Filter Video");
     final VideoPageResponseDto expectedResponse = createVideoPageResponseDto(List.of(dto), 1);
 
-    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class))).thenReturn(videoPage);
+    when(videoService.getVideos(eq(expectedPageable), any(VideoFilterDto.class), eq(CountMode.EXACT)))
+        .thenReturn(videoPage);
     when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(expectedResponse);
 
     final VideoFilterDto filter = VideoFilterDto.builder()
@@ -369,11 +480,12 @@ class VideoApiServiceTest {
         .build();
 
     // When
-    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter);
+    final VideoPageResponseDto result = videoApiService.getVideos(page, size, sortBy, sortDirection, filter,
+        CountMode.EXACT);
 
     // Then
     assertThat(result).isEqualTo(expectedResponse);
-    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture());
+    verify(videoService).getVideos(eq(expectedPageable), filterCaptor.capture(), eq(CountMode.EXACT));
     verify(videoMapper).toVideoPageResponseDto(videoPage);
 
     final VideoFilterDto capturedFilter = filterCaptor.getValue();
@@ -384,6 +496,112 @@ class VideoApiServiceTest {
     assertThat(capturedFilter.durationTo()).isNull();
   }
 
+  @Test
+  @DisplayName("Should serve rendered video page cached for current catalog version")
+  void shouldServeRenderedVideoPageCachedForCurrentCatalogVersion() {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder().source("YouTube").build();
+    final String expectedKey = "7:0:10:id:ASC:EXACT:" + VideoFilterDto.builder().source("youtube").build();
+    final byte[] rendered = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+    when(videoCatalogVersionService.currentVersion()).thenReturn(7L);
+    when(cacheManager.getCache(VideoApiService.VIDEO_PAGES_CACHE)).thenReturn(cache);
+    when(cache.get(expectedKey, byte[].class)).thenReturn(rendered);
+
+    // When
+    final byte[] result = videoApiService.getRenderedVideos(0, 10, "id", SortDirection.ASC, filter, CountMode.EXACT);
+
+    // Then
+    assertThat(result).isSameAs(rendered);
+    verifyNoInteractions(videoService, videoMapper, objectMapper);
+  }
+
+  @Test
+  @DisplayName("Should render and cache video page under current catalog version on miss")
+  void shouldRenderAndCacheVideoPageUnderCurrentCatalogVersionOnMiss() throws Exception {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder().build();
+    final String expectedKey = "8:0:10:id:DESC:NONE:" + filter;
+    final Pageable expectedPageable = PageRequest.of(0, 10, Sort.by("id").descending());
+    final VideoPage videoPage = new VideoPage(new SliceImpl<>(List.of(), expectedPageable, false), null,
+        CountMode.NONE, false);
+    final VideoPageResponseDto response = createVideoPageResponseDto(List.of(), 0);
+    final byte[] rendered = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+    when(videoCatalogVersionService.currentVersion()).thenReturn(8L);
+    when(cacheManager.getCache(VideoApiService.VIDEO_PAGES_CACHE)).thenReturn(cache);
+    when(videoService.getVideos(expectedPageable, filter, CountMode.NONE)).thenReturn(videoPage);
+    when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(response);
+    when(objectMapper.writeValueAsBytes(response)).thenReturn(rendered);
+
+    // When
+    final byte[] result = videoApiService.getRenderedVideos(0, 10, "id", SortDirection.DESC, filter, CountMode.NONE);
+
+    // Then
+    assertThat(result).isSameAs(rendered);
+    verify(cache).put(expectedKey, rendered);
+  }
+
+  @Test
+  @DisplayName("Should render search page without caching it")
+  void shouldRenderSearchPageWithoutCachingIt() throws Exception {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder().query("spring").build();
+    final Pageable expectedPageable = PageRequest.of(0, 10, Sort.by("id").descending());
+    final VideoPage videoPage = new VideoPage(new SliceImpl<>(List.of(), expectedPageable, false), null,
+        CountMode.NONE, false);
+    final VideoPageResponseDto response = createVideoPageResponseDto(List.of(), 0);
+    final byte[] rendered = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+    when(videoService.getVideos(expectedPageable, filter, CountMode.NONE)).thenReturn(videoPage);
+    when(videoMapper.toVideoPageResponseDto(videoPage)).thenReturn(response);
+    when(objectMapper.writeValueAsBytes(response)).thenReturn(rendered);
+
+    // When
+    final byte[] result = videoApiService.getRenderedVideos(0, 10, "id", SortDirection.DESC, filter, CountMode.NONE);
+
+    // Then
+    assertThat(result).isSameAs(rendered);
+    verifyNoInteractions(cacheManager, videoCatalogVersionService);
+  }
+
+  @Test
+  @DisplayName("Should return cursor pointing after the last video of the slice")
+  void shouldReturnCursorPointingAfterTheLastVideoOfTheSlice() {
+    // Given
+    final VideoFilterDto filter = VideoFilterDto.builder().source("youtube").build();
+    final VideoSummary video1 = createVideoSummary("Video 1", "youtube", 180, LocalDate.now());
+    final VideoSummary video2 = createVideoSummary("Video 2", "youtube", 180, LocalDate.now());
+    final Slice<VideoSummary> videoSlice = new SliceImpl<>(List.of(video1, video2), PageRequest.of(0, 2), true);
+    final VideoCursor first = VideoCursor.first(VideoSortKey.DURATION, Direction.DESC);
+    final String expectedCursor = first.after(video2).encode();
+    final VideoPage videoPage = new VideoPage(videoSlice, null, CountMode.NONE, false);
+    final VideoCursorPageResponseDto expectedResponse = new VideoCursorPageResponseDto(2, expectedCursor, false,
+        List.of());
+    when(videoService.getVideosAfter(first, 2, filter)).thenReturn(videoPage);
+    when(videoMapper.toVideoCursorPageResponseDto(videoPage, expectedCursor)).thenReturn(expectedResponse);
+
+    // When
+    final VideoCursorPageResponseDto result = videoApiService.getVideosByCursor("", 2, "duration",
+        SortDirection.DESC, filter);
+
+    // Then
+    assertThat(result).isEqualTo(expectedResponse);
+  }
+
+  @Test
+  @DisplayName("Should reject cursor issued for a different sort")
+  void shouldRejectCursorIssuedForADifferentSort() {
+    // Given
+    final String cursor = VideoCursor.first(VideoSortKey.SOURCE, Direction.ASC)
+        .after(createVideoSummary("Video", "youtube", 180, LocalDate.now()))
+        .encode();
+    final VideoFilterDto filter = VideoFilterDto.builder().build();
+
+    // When / Then
+    assertThatThrownBy(() -> videoApiService.getVideosByCursor(cursor, 10, "source", SortDirection.DESC, filter))
+        .isInstanceOf(VideoMetaException.class)
+        .hasFieldOrPropertyWithValue("errorCode", VideoMetaErrorCode.INVALID_REQUEST);
+    verify(videoService, never()).getVideosAfter(any(), anyInt(), any());
+  }
+
   private Video createVideo(final UUID id, final String title, final String source) {
     final Video video = new Video();
     video.setId(id);
@@ -397,6 +615,11 @@ class VideoApiServiceTest {
     return video;
   }
 
+  private VideoSummary createVideoSummary(final String title, final String source, final int duration,
+      final LocalDate uploadDate) {
+    return new VideoSummary(UUID.randomUUID(), title, source, "http://example.com/video", duration, uploadDate);
+  }
+
   private VideoResponseDto createVideoResponseDto(final UUID id, final String title) {
     return new VideoResponseDto(
         id.toString(),
@@ -409,7 +632,7 @@ class VideoApiServiceTest {
 
   private VideoPageResponseDto createVideoPageResponseDto(final List<VideoResponseDto> videos,
       final long totalElements) {
-    return new VideoPageResponseDto(0, 10, totalElements, 1, videos);
+    return new VideoPageResponseDto(0, 10, totalElements, 1, false, CountMode.EXACT, false, videos);
   }
 
   private VideoStatistics createVideoStatistics(final String source, final Long totalVideos,